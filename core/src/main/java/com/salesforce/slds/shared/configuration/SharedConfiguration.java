@@ -6,6 +6,7 @@
  */
 package com.salesforce.slds.shared.configuration;
 
+import com.salesforce.slds.shared.converters.StateCache;
 import com.salesforce.slds.shared.converters.TypeConverters;
 import com.salesforce.slds.shared.utils.TokenUtilities;
 import com.salesforce.slds.shared.utils.ValueUtilities;
@@ -14,6 +15,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
 @Configuration
-@Import({ValueUtilities.class, TokenUtilities.class, TokensConfiguration.class, TypeConverters.class})
+@Import({ValueUtilities.class, TokenUtilities.class, TokensConfiguration.class, TypeConverters.class,
+        StateCache.class})
 public class SharedConfiguration {
 }
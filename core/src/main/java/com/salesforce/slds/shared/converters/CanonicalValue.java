@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.converters;
+
+/**
+ * Numeric form of a converted colour or length. Colours are packed ARGB ints and lengths are
+ * pixels, using the same 16px root size the unit conversions in {@code NumberType} assume.
+ */
+public final class CanonicalValue {
+
+    /**
+     * Lengths closer than this are the same value. It absorbs the three fraction digits the
+     * converters round rem, em, pt and % spellings to.
+     */
+    public static final double TOLERANCE = 0.01;
+
+    public enum Kind { COLOR, LENGTH }
+
+    private final Kind kind;
+    private final int argb;
+    private final double px;
+
+    private CanonicalValue(Kind kind, int argb, double px) {
+        this.kind = kind;
+        this.argb = argb;
+        this.px = px;
+    }
+
+    public static CanonicalValue color(int argb) {
+        return new CanonicalValue(Kind.COLOR, argb, 0);
+    }
+
+    public static CanonicalValue color(int red, int green, int blue, int alpha) {
+        return color((alpha & 0xFF) << 24 | (red & 0xFF) << 16 | (green & 0xFF) << 8 | (blue & 0xFF));
+    }
+
+    public static CanonicalValue length(double px) {
+        // folds -0.0 into 0.0
+        return new CanonicalValue(Kind.LENGTH, 0, px + 0.0);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int getArgb() {
+        return argb;
+    }
+
+    public double getPx() {
+        return px;
+    }
+
+    /**
+     * Single number ordering values of the same kind, so candidates can be range searched.
+     */
+    public double getSortKey() {
+        return kind == Kind.COLOR ? argb & 0xFFFFFFFFL : px;
+    }
+
+    public double getTolerance() {
+        return kind == Kind.COLOR ? 0 : TOLERANCE;
+    }
+
+    /**
+     * Tolerance-aware equality: colours must be identical, lengths within {@link #TOLERANCE}.
+     */
+    public boolean matches(CanonicalValue other) {
+        if (other == null || kind != other.kind) {
+            return false;
+        }
+
+        return kind == Kind.COLOR ? argb == other.argb : Math.abs(px - other.px) <= TOLERANCE;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || getClass() != o.getClass()) return false;
+
+        CanonicalValue that = (CanonicalValue) o;
+
+        return kind == that.kind && argb == that.argb && Double.compare(px, that.px) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * kind.hashCode() + argb) + Double.hashCode(px);
+    }
+
+    @Override
+    public String toString() {
+        return kind == Kind.COLOR ? String.format("#%08x", argb) : px + "px";
+    }
+}
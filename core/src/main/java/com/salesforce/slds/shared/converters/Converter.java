@@ -7,21 +7,37 @@
 
 package com.salesforce.slds.shared.converters;
 
+import com.google.common.collect.Maps;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
-import java.util.stream.Collectors;
 
 public abstract class Converter {
 
     public abstract State process(State state);
 
+    /**
+     * Converted locations of a value and their spellings, in the order they were added. The
+     * locations are also kept ordered by start then end: a location strictly nested in another
+     * is rejected when it is added, and adding one that encloses others removes them, so no
+     * pass over the whole state is needed.
+     */
     public static class State {
 
+        private static final Comparator<Location> ORDER =
+                Comparator.comparingInt(Location::getStart).thenComparingInt(Location::getEnd);
+
         private final String input;
-        private final Map<Location, Set<String>> values = new LinkedHashMap<>();
+        private final Map<Location, Entry> entries = new LinkedHashMap<>();
+        private final NavigableSet<Location> locations = new TreeSet<>(ORDER);
+        private final Set<Entry> deferred = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<Location, Set<String>> view =
+                Collections.unmodifiableMap(Maps.transformValues(entries, Entry::getSpellings));
+
+        private boolean frozen;
 
         public State(String input) {
             this.input = input;
@@ -31,39 +47,141 @@ public abstract class Converter {
             return input;
         }
 
+        /**
+         * Read-only view of every location and its spellings, generating the deferred ones.
+         */
         public Map<Location, Set<String>> getValues() {
-            List<Location> locations =
-                    values.keySet().stream()
-                            .sorted(Comparator.comparingInt(Converter.State.Location::getStart))
-                            .collect(Collectors.toList());
-
-            Location lastLocation = null;
-
-            for (Location location : locations) {
-                if (lastLocation == null) {
-                    lastLocation = location;
-                } else {
-                    if (lastLocation.within(location)) {
-                        values.remove(location);
-                    } else {
-                        lastLocation = location;
-                    }
-                }
+            if (deferred.isEmpty() == false) {
+                deferred.forEach(Entry::expand);
+                deferred.clear();
+            }
+
+            return view;
+        }
+
+        /**
+         * Spellings of a single location, generating only those.
+         */
+        public Set<String> getValues(Location location) {
+            Entry entry = entries.get(location);
+
+            if (entry == null) {
+                return Collections.emptySet();
+            }
+
+            if (frozen == false && deferred.remove(entry)) {
+                entry.expand();
             }
 
-            return values;
+            return entry.getSpellings();
+        }
+
+        /**
+         * Converted locations ordered by start, without the ones nested in another.
+         */
+        public List<Location> getLocations() {
+            return new ArrayList<>(locations);
+        }
+
+        public CanonicalValue getCanonicalValue(Location location) {
+            Entry entry = entries.get(location);
+            return entry == null ? null : entry.canonicalValue;
+        }
+
+        /**
+         * Generates every spelling and makes the state read-only, so it can be shared between
+         * threads. Adding values afterwards fails.
+         */
+        public State freeze() {
+            if (frozen == false) {
+                getValues();
+                frozen = true;
+            }
+
+            return this;
+        }
+
+        public boolean isFrozen() {
+            return frozen;
         }
 
         public State addValues(Matcher matcher, String value) {
-            Location location = new Location(matcher);
+            checkNotFrozen();
+            Entry entry = insert(new Location(matcher));
 
-            Set<String> values = this.getValues().getOrDefault(location, new LinkedHashSet<>());
-            values.add(value);
+            if (entry != null) {
+                entry.spellings.add(value);
+            }
 
-            this.getValues().put(location, values);
             return this;
         }
 
+        /**
+         * Records the numeric form of a location and defers generating its spellings until
+         * they are asked for.
+         */
+        public State addValues(Matcher matcher, CanonicalValue value, Supplier<Set<String>> spellings) {
+            checkNotFrozen();
+            Entry entry = insert(new Location(matcher));
+
+            if (entry != null) {
+                if (entry.canonicalValue == null) {
+                    entry.canonicalValue = value;
+                }
+
+                entry.expand();
+                entry.deferredSpellings = spellings;
+                deferred.add(entry);
+            }
+
+            return this;
+        }
+
+        private void checkNotFrozen() {
+            if (frozen) {
+                throw new IllegalStateException("Cannot add values to a frozen state");
+            }
+        }
+
+        /**
+         * Entry of the location, or null when another location encloses it. Since no kept
+         * location encloses another, ends grow with starts: the only candidate enclosing the
+         * new location is the last one starting before it, and the ones it encloses are the
+         * first ones starting after it.
+         */
+        private Entry insert(Location location) {
+            Entry entry = entries.get(location);
+
+            if (entry != null) {
+                return entry;
+            }
+
+            Location previous = locations.lower(Location.create(location.getStart(), Integer.MIN_VALUE));
+
+            if (previous != null && previous.within(location)) {
+                return null;
+            }
+
+            Iterator<Location> next =
+                    locations.tailSet(Location.create(location.getStart() + 1, Integer.MIN_VALUE), true).iterator();
+
+            while (next.hasNext()) {
+                Location enclosed = next.next();
+
+                if (location.within(enclosed) == false) {
+                    break;
+                }
+
+                next.remove();
+                deferred.remove(entries.remove(enclosed));
+            }
+
+            entry = new Entry();
+            entries.put(location, entry);
+            locations.add(location);
+            return entry;
+        }
+
         public static StateBuilder builder() {
             return new StateBuilder();
         }
@@ -81,6 +199,25 @@ public abstract class Converter {
             }
         }
 
+        private static final class Entry {
+            private final Set<String> spellings = new LinkedHashSet<>();
+            private final Set<String> readOnlySpellings = Collections.unmodifiableSet(spellings);
+
+            private Supplier<Set<String>> deferredSpellings;
+            private CanonicalValue canonicalValue;
+
+            void expand() {
+                if (deferredSpellings != null) {
+                    spellings.addAll(deferredSpellings.get());
+                    deferredSpellings = null;
+                }
+            }
+
+            Set<String> getSpellings() {
+                return readOnlySpellings;
+            }
+        }
+
         public static class Location {
             private final int start;
             private final int end;
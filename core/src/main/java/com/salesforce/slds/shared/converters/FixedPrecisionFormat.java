@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.converters;
+
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+
+/**
+ * Decimal formatting with a fixed number of fraction digits, producing exactly what a default
+ * {@link DecimalFormat} configured the same way would. Small whole numbers are written
+ * directly; everything else goes through a format kept per thread, since building one is
+ * costly and they are not thread safe.
+ */
+public final class FixedPrecisionFormat {
+
+    public static final FixedPrecisionFormat LENGTH = new FixedPrecisionFormat(3, RoundingMode.HALF_EVEN);
+    public static final FixedPrecisionFormat COLOR = new FixedPrecisionFormat(2, RoundingMode.HALF_DOWN);
+
+    private static final String[] SMALL_INTEGERS = new String[1000];
+
+    static {
+        for (int i = 0; i < SMALL_INTEGERS.length; i++) {
+            SMALL_INTEGERS[i] = Integer.toString(i);
+        }
+    }
+
+    private final ThreadLocal<DecimalFormat> format;
+    private final boolean plainDigits;
+
+    private FixedPrecisionFormat(int maximumFractionDigits, RoundingMode roundingMode) {
+        this.format = ThreadLocal.withInitial(() -> {
+            DecimalFormat decimalFormat = new DecimalFormat();
+            decimalFormat.setMaximumFractionDigits(maximumFractionDigits);
+            decimalFormat.setMinimumFractionDigits(0);
+            decimalFormat.setRoundingMode(roundingMode);
+            return decimalFormat;
+        });
+
+        DecimalFormat decimalFormat = format.get();
+        this.plainDigits = decimalFormat.getDecimalFormatSymbols().getZeroDigit() == '0' &&
+                decimalFormat.getDecimalFormatSymbols().getMinusSign() == '-' &&
+                decimalFormat.getPositivePrefix().isEmpty() && decimalFormat.getPositiveSuffix().isEmpty() &&
+                "-".equals(decimalFormat.getNegativePrefix()) && decimalFormat.getNegativeSuffix().isEmpty();
+    }
+
+    public String format(double value) {
+        if (plainDigits && value > -SMALL_INTEGERS.length && value < SMALL_INTEGERS.length &&
+                value == (int) value && Double.doubleToRawLongBits(value) != Double.doubleToRawLongBits(-0.0)) {
+            int integer = (int) value;
+            return integer < 0 ? "-" + SMALL_INTEGERS[-integer] : SMALL_INTEGERS[integer];
+        }
+
+        return format.get().format(value);
+    }
+}
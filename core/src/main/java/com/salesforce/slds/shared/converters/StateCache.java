@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.converters;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Converted values shared by every validator, across runs. Entries are keyed by the value and
+ * by the converters that produced them, compared by identity, so callers should hold on to
+ * their converters. Cached states are frozen and safe to read from several threads.
+ */
+@Component
+public class StateCache {
+
+    public static final int DEFAULT_SIZE = 4096;
+
+    private final Cache<Key, Converter.State> states;
+
+    public StateCache() {
+        this(DEFAULT_SIZE);
+    }
+
+    @Autowired
+    public StateCache(@Value("${slds.stateCache.size:" + DEFAULT_SIZE + "}") int size) {
+        this.states = CacheBuilder.newBuilder().maximumSize(size).recordStats().build();
+    }
+
+    public Converter.State get(Converter converter, String value) {
+        return get(Collections.singletonList(converter), value);
+    }
+
+    /**
+     * State of the value after running it through the converters in order.
+     */
+    public Converter.State get(List<? extends Converter> converters, String value) {
+        try {
+            return states.get(new Key(converters, value), () -> {
+                Converter.State state = new Converter.State(value);
+
+                for (Converter converter : converters) {
+                    state = converter.process(state);
+                }
+
+                return state.freeze();
+            });
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    public long getHitCount() {
+        return states.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return states.stats().missCount();
+    }
+
+    public long size() {
+        return states.size();
+    }
+
+    public void clear() {
+        states.invalidateAll();
+    }
+
+    private static final class Key {
+        private final List<? extends Converter> converters;
+        private final String value;
+
+        Key(List<? extends Converter> converters, String value) {
+            this.converters = converters;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Key key = (Key) o;
+
+            if (value.equals(key.value) == false || converters.size() != key.converters.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < converters.size(); i++) {
+                if (converters.get(i) != key.converters.get(i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = value.hashCode();
+
+            for (Converter converter : converters) {
+                hash = 31 * hash + System.identityHashCode(converter);
+            }
+
+            return hash;
+        }
+    }
+}
@@ -7,6 +7,8 @@
 
 package com.salesforce.slds.shared.converters;
 
+import java.util.Collections;
+import java.util.Set;
 import java.util.regex.Matcher;
 
 public interface Type {
@@ -14,4 +16,12 @@ public interface Type {
     Matcher match(Converter.State state);
 
     Converter.State process(Matcher matcher, Converter.State state);
+
+    /**
+     * {@link ValueLexer} tokens this type can start matching at. Types returning no kinds are
+     * matched by scanning the whole input.
+     */
+    default Set<ValueToken.Kind> getKinds() {
+        return Collections.emptySet();
+    }
 }
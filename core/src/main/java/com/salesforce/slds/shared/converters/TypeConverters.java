@@ -14,6 +14,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Matcher;
 
 @Component
@@ -25,22 +26,67 @@ public class TypeConverters extends Converter {
         this(ColorType.get(), NumberType.get(), TokenType.get());
     }
 
+    @SafeVarargs
     public TypeConverters(List<Type> ... typeProviders) {
         for (List<Type> types : typeProviders) {
             availableTypes.addAll(types);
         }
     }
 
+    /**
+     * Lexes the input once and lets each type match only where one of its token kinds starts,
+     * instead of every type scanning the whole input with its own pattern.
+     */
     @Override
     public State process(State state) {
+        List<ValueToken> tokens = ValueLexer.tokenize(state.getInput());
+
         for (Type type : availableTypes) {
+            Set<ValueToken.Kind> kinds = type.getKinds();
+
+            if (kinds.isEmpty()) {
+                state = scan(type, state);
+                continue;
+            }
+
             Matcher matcher = type.match(state);
+            int length = state.getInput().length();
+            int next = 0;
+
+            for (ValueToken token : tokens) {
+                if (token.getStart() < next || kinds.contains(token.getKind()) == false) {
+                    continue;
+                }
 
-            while(matcher.find()) {
-                state = type.process(matcher, state);
+                matcher.region(token.getStart(), length);
+
+                if (matcher.lookingAt()) {
+                    state = type.process(matcher, state);
+                    next = matcher.end();
+                } else {
+                    next = token.getStart() + 1;
+                }
             }
         }
 
         return state;
     }
+
+    State processByScanning(State state) {
+        for (Type type : availableTypes) {
+            state = scan(type, state);
+        }
+
+        return state;
+    }
+
+    private State scan(Type type, State state) {
+        Matcher matcher = type.match(state);
+
+        while(matcher.find()) {
+            state = type.process(matcher, state);
+        }
+
+        return state;
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.converters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A converted value split into its literal shape and the canonical values filling it.
+ *
+ * The shape is the input with every location that has a {@link CanonicalValue} replaced by a
+ * placeholder and every other location replaced by its only spelling. Two values are
+ * equivalent when their shapes are equal and their canonical values match pairwise, which
+ * replaces comparing every combination of spellings.
+ */
+public final class ValueForm {
+
+    static final char PLACEHOLDER = '\u0000';
+
+    private final String shape;
+    private final List<CanonicalValue> values;
+
+    private ValueForm(String shape, List<CanonicalValue> values) {
+        this.shape = shape;
+        this.values = values;
+    }
+
+    /**
+     * Form of the whole input, or {@code null} when a location without a canonical value has
+     * several spellings and so no single shape.
+     */
+    public static ValueForm of(Converter.State state) {
+        String input = state.getInput();
+        StringBuilder shape = new StringBuilder();
+        List<CanonicalValue> values = new ArrayList<>();
+        int end = 0;
+
+        for (Converter.State.Location location : state.getLocations()) {
+            shape.append(input, end, location.getStart());
+            end = location.getEnd();
+
+            CanonicalValue value = state.getCanonicalValue(location);
+
+            if (value != null) {
+                shape.append(PLACEHOLDER);
+                values.add(value);
+            } else {
+                Set<String> spellings = state.getValues(location);
+
+                if (spellings.size() != 1) {
+                    return null;
+                }
+
+                shape.append(spellings.iterator().next());
+            }
+        }
+
+        shape.append(input, end, input.length());
+
+        return new ValueForm(shape.toString(), values.isEmpty() ? Collections.emptyList() : values);
+    }
+
+    /**
+     * Form of a single canonical value standing on its own.
+     */
+    public static ValueForm of(CanonicalValue value) {
+        return new ValueForm(String.valueOf(PLACEHOLDER), Collections.singletonList(value));
+    }
+
+    public String getShape() {
+        return shape;
+    }
+
+    public List<CanonicalValue> getValues() {
+        return values;
+    }
+
+    public boolean matches(ValueForm other) {
+        if (shape.equals(other.shape) == false) {
+            return false;
+        }
+
+        for (int i = 0; i < values.size(); i++) {
+            if (values.get(i).matches(other.values.get(i)) == false) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
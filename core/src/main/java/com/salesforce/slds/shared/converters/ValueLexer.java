@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.converters;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass lexer for CSS values.
+ *
+ * The {@link Type} patterns are not word-bounded, e.g. a dimension is recognized inside
+ * {@code a-1px} and {@code t(...)} inside {@code format(...)}, so tokens are emitted wherever
+ * one of those patterns could start and may overlap: {@code 16px} is both a
+ * {@link ValueToken.Kind#DIMENSION} and an {@link ValueToken.Kind#IDENT}.
+ */
+public final class ValueLexer {
+
+    private ValueLexer() {}
+
+    public static List<ValueToken> tokenize(String value) {
+        List<ValueToken> tokens = new ArrayList<>();
+        int length = value.length();
+        int numberEnd = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+
+            if (c == '#') {
+                tokens.add(new ValueToken(ValueToken.Kind.COLOR, i, skipWord(value, i + 1)));
+            } else if (c == 'r' || c == 'h') {
+                if (value.startsWith("rgb(", i) || value.startsWith("rgba(", i) || value.startsWith("hsl(", i)) {
+                    tokens.add(new ValueToken(ValueToken.Kind.COLOR, i, value.indexOf('(', i) + 1));
+                }
+            } else if (c == 't' || c == 'T') {
+                if (value.startsWith("(", i + 1)) {
+                    tokens.add(new ValueToken(ValueToken.Kind.AURA_TOKEN, i, i + 2));
+                } else if (value.regionMatches(true, i, "token(", 0, 6)) {
+                    tokens.add(new ValueToken(ValueToken.Kind.AURA_TOKEN, i, i + 6));
+                }
+            } else if (c == 'v' || c == 'V') {
+                if (value.regionMatches(true, i, "var(", 0, 4)) {
+                    tokens.add(new ValueToken(ValueToken.Kind.VAR, i, i + 4));
+                }
+            }
+
+            if (isWord(c) && (i == 0 || isWord(value.charAt(i - 1)) == false)) {
+                tokens.add(new ValueToken(ValueToken.Kind.IDENT, i, skipWord(value, i)));
+            }
+
+            if (i >= numberEnd) {
+                int start = i;
+                int digits = i;
+
+                if ((c == '-' || c == '+' || c == '|') && isNumberStart(value, i + 1)) {
+                    digits = i + 1;
+                }
+
+                if (isNumberStart(value, digits)) {
+                    numberEnd = skipNumber(value, digits);
+                    tokens.add(new ValueToken(numberKind(value, numberEnd), start, numberEnd));
+                }
+            }
+        }
+
+        return tokens;
+    }
+
+    private static ValueToken.Kind numberKind(String value, int numberEnd) {
+        if (numberEnd < value.length() && value.charAt(numberEnd) == '%') {
+            return ValueToken.Kind.PERCENTAGE;
+        }
+
+        int i = numberEnd;
+        while (i < value.length() && Character.isWhitespace(value.charAt(i))) {
+            i++;
+        }
+
+        return i < value.length() && isLetter(value.charAt(i)) ? ValueToken.Kind.DIMENSION : ValueToken.Kind.NUMBER;
+    }
+
+    private static boolean isNumberStart(String value, int i) {
+        if (i >= value.length()) {
+            return false;
+        }
+
+        char c = value.charAt(i);
+        return isDigit(c) || (c == '.' && i + 1 < value.length() && isDigit(value.charAt(i + 1)));
+    }
+
+    /**
+     * Mirrors {@code \d+(?:\.\d*)?|\.\d+}.
+     */
+    private static int skipNumber(String value, int i) {
+        int length = value.length();
+
+        if (value.charAt(i) == '.') {
+            i++;
+        } else {
+            while (i < length && isDigit(value.charAt(i))) {
+                i++;
+            }
+
+            if (i == length || value.charAt(i) != '.') {
+                return i;
+            }
+            i++;
+        }
+
+        while (i < length && isDigit(value.charAt(i))) {
+            i++;
+        }
+
+        return i;
+    }
+
+    private static int skipWord(String value, int i) {
+        while (i < value.length() && isWord(value.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isWord(char c) {
+        return isLetter(c) || isDigit(c) || c == '_';
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.converters;
+
+/**
+ * A typed span of a CSS value produced by {@link ValueLexer}. Only the start is significant to
+ * the {@link Type} handlers, which match their own pattern from there.
+ */
+public class ValueToken {
+
+    public enum Kind {
+        /** {@code #hex}, {@code rgb(}, {@code rgba(} or {@code hsl(} */
+        COLOR,
+        /** a number followed, possibly after whitespace, by letters */
+        DIMENSION,
+        PERCENTAGE,
+        NUMBER,
+        /** {@code t(} or {@code token(} */
+        AURA_TOKEN,
+        /** {@code var(} */
+        VAR,
+        /** a run of word characters */
+        IDENT
+    }
+
+    private final Kind kind;
+    private final int start;
+    private final int end;
+
+    ValueToken(Kind kind, int start, int end) {
+        this.kind = kind;
+        this.start = start;
+        this.end = end;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+
+    @Override
+    public String toString() {
+        return kind + "[" + start + ", " + end + ")";
+    }
+}
@@ -8,17 +8,22 @@
 package com.salesforce.slds.shared.converters.colors;
 
 import com.google.common.collect.ImmutableList;
+import com.salesforce.slds.shared.converters.CanonicalValue;
 import com.salesforce.slds.shared.converters.Converter;
+import com.salesforce.slds.shared.converters.FixedPrecisionFormat;
 import com.salesforce.slds.shared.converters.Type;
 
 import java.awt.*;
-import java.math.RoundingMode;
-import java.text.DecimalFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Matcher;
 
 public abstract class ColorType implements Type {
 
+    // initialized before TYPES, since NamedColorType spells its colours when constructed
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     private static final List<Type> TYPES =
             ImmutableList.of(new HexColorType(), new HSLColorType(),
                     new RGBAColorType(), new RGBColorType(), new NamedColorType());
@@ -28,18 +33,39 @@ public abstract class ColorType implements Type {
     }
 
     protected Converter.State addColor(Matcher matcher, Color color, Converter.State state) {
+        return state.addValues(matcher, CanonicalValue.color(color.getRGB()), () -> getSpellings(color));
+    }
+
+    /**
+     * Adds a colour whose spellings were generated up front.
+     */
+    protected Converter.State addColor(Matcher matcher, CanonicalValue value, Set<String> spellings,
+                                       Converter.State state) {
+        return state.addValues(matcher, value, () -> spellings);
+    }
+
+    protected Set<String> getSpellings(Color color) {
         String hex = getHEX(color);
 
-        state.addValues(matcher, hex.toLowerCase());
-        state.addValues(matcher, hex.toUpperCase());
-        state.addValues(matcher, getRGB(color));
-        state.addValues(matcher, getHSL(color));
+        Set<String> spellings = new LinkedHashSet<>();
+        spellings.add(hex.toLowerCase());
+        spellings.add(hex.toUpperCase());
+        spellings.add(getRGB(color));
+        spellings.add(getHSL(color));
 
-        return state;
+        return spellings;
     }
 
     protected String getHEX(Color color) {
-        return String.format("#%02x%02x%02x", color.getRed(), color.getGreen(), color.getBlue());
+        char[] hex = new char[7];
+        hex[0] = '#';
+
+        int rgb = color.getRGB();
+        for (int i = 6; i > 0; i--, rgb >>>= 4) {
+            hex[i] = HEX_DIGITS[rgb & 0xF];
+        }
+
+        return new String(hex);
     }
 
     protected String getRGB(Color color) {
@@ -54,9 +80,7 @@ public abstract class ColorType implements Type {
     protected String getHSL(Color color) {
         float[] hsl = fromRGB(color);
 
-        DecimalFormat decimalFormat = new DecimalFormat();
-        decimalFormat.setMaximumFractionDigits(2);
-        decimalFormat.setRoundingMode(RoundingMode.HALF_DOWN);
+        FixedPrecisionFormat decimalFormat = FixedPrecisionFormat.COLOR;
 
         StringBuilder value = new StringBuilder("hsl(")
                 .append(Math.round(hsl[0])).append(", ")
@@ -10,12 +10,17 @@ package com.salesforce.slds.shared.converters.colors;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
+import com.salesforce.slds.shared.converters.CanonicalValue;
 import com.salesforce.slds.shared.converters.Converter;
+import com.salesforce.slds.shared.converters.ValueToken;
 import com.salesforce.slds.shared.utils.ResourceUtilities;
 
 import java.awt.*;
 import java.io.InputStream;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -24,28 +29,50 @@ import static com.salesforce.slds.shared.RegexPattern.WORD_FRAGMENT;
 public class NamedColorType extends ColorType {
 
     private static final Pattern pattern = Pattern.compile(WORD_FRAGMENT);
+    private static final Set<ValueToken.Kind> KINDS = EnumSet.of(ValueToken.Kind.IDENT);
 
     private static final Map<String, String> COLOR_NAMES = getColorNames();
 
+    private final Map<String, NamedColor> colors = decode(COLOR_NAMES);
+
     @Override
     public Matcher match(Converter.State state) {
         return pattern.matcher(state.getInput());
     }
 
+    @Override
+    public Set<ValueToken.Kind> getKinds() {
+        return KINDS;
+    }
+
     @Override
     public Converter.State process(Matcher matcher, Converter.State state) {
         String name = matcher.group();
 
-        String hex = COLOR_NAMES.get(name.toLowerCase());
+        NamedColor color = colors.get(name.toLowerCase());
 
-        if (hex != null) {
-            Color color = Color.decode(hex);
-            state = addColor(matcher, color, state);
+        if (color != null) {
+            state = addColor(matcher, color.value, color.spellings, state);
         }
 
         return state;
     }
 
+    /**
+     * Decodes every named colour and generates its spellings once, instead of on each match.
+     */
+    private Map<String, NamedColor> decode(Map<String, String> colorNames) {
+        ImmutableMap.Builder<String, NamedColor> builder = ImmutableMap.builder();
+
+        colorNames.forEach((name, hex) -> {
+            Color color = Color.decode(hex);
+            builder.put(name, new NamedColor(CanonicalValue.color(color.getRGB()),
+                    Collections.unmodifiableSet(getSpellings(color))));
+        });
+
+        return builder.build();
+    }
+
     private static Map<String, String> getColorNames() {
         ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
 
@@ -62,4 +89,14 @@ public class NamedColorType extends ColorType {
 
         return builder.build();
     }
+
+    private static final class NamedColor {
+        private final CanonicalValue value;
+        private final Set<String> spellings;
+
+        NamedColor(CanonicalValue value, Set<String> spellings) {
+            this.value = value;
+            this.spellings = spellings;
+        }
+    }
 }
@@ -7,10 +7,14 @@
 
 package com.salesforce.slds.shared.converters.colors;
 
+import com.salesforce.slds.shared.converters.CanonicalValue;
 import com.salesforce.slds.shared.converters.Converter;
+import com.salesforce.slds.shared.converters.FixedPrecisionFormat;
+import com.salesforce.slds.shared.converters.ValueToken;
 
-import java.math.RoundingMode;
-import java.text.DecimalFormat;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -19,12 +23,18 @@ import static com.salesforce.slds.shared.RegexPattern.RGBA_COLOR_PATTERN;
 public class RGBAColorType extends ColorType {
 
     private static final Pattern PATTERN = Pattern.compile(RGBA_COLOR_PATTERN);
+    private static final Set<ValueToken.Kind> KINDS = EnumSet.of(ValueToken.Kind.COLOR);
 
     @Override
     public Matcher match(Converter.State state) {
         return PATTERN.matcher(state.getInput());
     }
 
+    @Override
+    public Set<ValueToken.Kind> getKinds() {
+        return KINDS;
+    }
+
     @Override
     public Converter.State process(Matcher matcher, Converter.State state) {
         int red = Integer.parseInt(matcher.group("red"));
@@ -32,16 +42,21 @@ public class RGBAColorType extends ColorType {
         int blue = Integer.parseInt(matcher.group("blue"));
         float alpha = Float.parseFloat(matcher.group("alpha"));
 
-        DecimalFormat decimalFormat = new DecimalFormat();
-        decimalFormat.setMaximumFractionDigits(2);
-        decimalFormat.setRoundingMode(RoundingMode.HALF_DOWN);
+        CanonicalValue canonicalValue = isChannel(red) && isChannel(green) && isChannel(blue) && alpha >= 0 && alpha <= 1 ?
+                CanonicalValue.color(red, green, blue, Math.round(alpha * 255)) : null;
 
-        StringBuilder value = new StringBuilder("rgba(")
-                .append(red).append(", ")
-                .append(green).append(", ")
-                .append(blue).append(", ")
-                .append(decimalFormat.format(alpha)).append(")");
+        return state.addValues(matcher, canonicalValue, () -> {
+            StringBuilder value = new StringBuilder("rgba(")
+                    .append(red).append(", ")
+                    .append(green).append(", ")
+                    .append(blue).append(", ")
+                    .append(FixedPrecisionFormat.COLOR.format(alpha)).append(")");
+
+            return Collections.singleton(value.toString());
+        });
+    }
 
-        return state.addValues(matcher, value.toString());
+    private static boolean isChannel(int value) {
+        return value >= 0 && value <= 255;
     }
 }
@@ -8,8 +8,11 @@
 package com.salesforce.slds.shared.converters.colors;
 
 import com.salesforce.slds.shared.converters.Converter;
+import com.salesforce.slds.shared.converters.ValueToken;
 
 import java.awt.*;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -18,12 +21,18 @@ import static com.salesforce.slds.shared.RegexPattern.RGB_COLOR_PATTERN;
 public class RGBColorType extends ColorType {
 
     private static final Pattern PATTERN = Pattern.compile(RGB_COLOR_PATTERN);
+    private static final Set<ValueToken.Kind> KINDS = EnumSet.of(ValueToken.Kind.COLOR);
 
     @Override
     public Matcher match(Converter.State state) {
         return PATTERN.matcher(state.getInput());
     }
 
+    @Override
+    public Set<ValueToken.Kind> getKinds() {
+        return KINDS;
+    }
+
     @Override
     public Converter.State process(Matcher matcher, Converter.State state) {
         String red = matcher.group("red");
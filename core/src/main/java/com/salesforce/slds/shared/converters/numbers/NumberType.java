@@ -8,9 +8,10 @@
 package com.salesforce.slds.shared.converters.numbers;
 
 import com.google.common.collect.ImmutableList;
+import com.salesforce.slds.shared.converters.CanonicalValue;
+import com.salesforce.slds.shared.converters.FixedPrecisionFormat;
 import com.salesforce.slds.shared.converters.Type;
 
-import java.text.DecimalFormat;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
@@ -57,6 +58,40 @@ public abstract class NumberType implements Type {
         return value.toString();
     }
 
+    /**
+     * Length in pixels, using the same conversions as {@link #generateNumbers(String, String, String)}.
+     * Only units those conversions relate to px have one; a unitless zero is a zero length.
+     */
+    protected CanonicalValue toLength(String sign, String number, String unit) {
+        if ("|".equals(sign)) {
+            return null;
+        }
+
+        double value = Double.parseDouble(number);
+
+        if ("-".equals(sign)) {
+            value = -value;
+        }
+
+        if (unit == null) {
+            return value == 0 ? CanonicalValue.length(0) : null;
+        }
+
+        switch (unit) {
+            case "px":
+                return CanonicalValue.length(value);
+            case "rem":
+            case "em":
+                return CanonicalValue.length(value * 16);
+            case "pt":
+                return CanonicalValue.length(value / 0.75);
+            case "%":
+                return CanonicalValue.length(value / 100 * 16);
+            default:
+                return null;
+        }
+    }
+
     protected Set<String> generateNumbers(String sign, String number) {
         return generateNumbers(Optional.ofNullable(sign), number, Optional.empty());
     }
@@ -72,13 +107,11 @@ public abstract class NumberType implements Type {
         // https://websemantics.uk/tools/font-size-conversion-pixel-point-em-rem-percent/
         if (unit.isPresent()) {
             String unitContent = unit.get();
-            DecimalFormat df = new DecimalFormat();
-            df.setMaximumFractionDigits(3);
-            df.setMinimumFractionDigits(0);
-            Double parsedNumber = Double.parseDouble(number);
+            FixedPrecisionFormat df = FixedPrecisionFormat.LENGTH;
+            double parsedNumber = Double.parseDouble(number);
 
             if (unitContent.contentEquals("px")) {
-                Double num = parsedNumber / 16.0;
+                double num = parsedNumber / 16.0;
                 results.add(generateString(sign, df.format(num), Optional.of("rem")));
                 results.add(generateString(sign, df.format(num), Optional.of("em")));
 
@@ -90,7 +123,7 @@ public abstract class NumberType implements Type {
             }
 
             if (unitContent.contentEquals("rem") || unit.get().contentEquals("em")) {
-                Double num = parsedNumber * 16;
+                double num = parsedNumber * 16;
                 results.add(generateString(sign, df.format(num), Optional.of("px")));
 
                 num = num * 0.75;
@@ -101,7 +134,7 @@ public abstract class NumberType implements Type {
             }
 
             if (unitContent.contentEquals("pt")) {
-                Double num = parsedNumber / 0.75;
+                double num = parsedNumber / 0.75;
                 results.add(generateString(sign, df.format(num), Optional.of("px")));
 
                 num = num * 0.75;
@@ -112,11 +145,11 @@ public abstract class NumberType implements Type {
             }
 
             if (unitContent.contentEquals("%")) {
-                Double num = parsedNumber / 100;
+                double num = parsedNumber / 100;
                 results.add(generateString(sign, df.format(num), Optional.of("rem")));
                 results.add(generateString(sign, df.format(num), Optional.of("em")));
 
-                Double numInRem = num;
+                double numInRem = num;
                 num = numInRem * 16;
                 results.add(generateString(sign, df.format(num), Optional.of("px")));
 
@@ -8,7 +8,10 @@
 package com.salesforce.slds.shared.converters.numbers;
 
 import com.salesforce.slds.shared.converters.Converter;
+import com.salesforce.slds.shared.converters.ValueToken;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -17,22 +20,25 @@ import static com.salesforce.slds.shared.RegexPattern.PERCENT_PATTERN;
 public class PercentType extends NumberType {
 
     private static final Pattern pattern  = Pattern.compile(PERCENT_PATTERN);
+    private static final Set<ValueToken.Kind> KINDS = EnumSet.of(ValueToken.Kind.PERCENTAGE);
 
     @Override
     public Matcher match(Converter.State state) {
         return pattern.matcher(state.getInput());
     }
 
+    @Override
+    public Set<ValueToken.Kind> getKinds() {
+        return KINDS;
+    }
+
     @Override
     public Converter.State process(Matcher matcher, Converter.State state) {
 
         String sign = matcher.group("sign");
         String number = matcher.group("number");
 
-        for (String value : generateNumbers(sign, number, "%")) {
-            state = state.addValues(matcher, value);
-        }
-
-        return state;
+        return state.addValues(matcher, toLength(sign, number, "%"),
+                () -> generateNumbers(sign, number, "%"));
     }
 }
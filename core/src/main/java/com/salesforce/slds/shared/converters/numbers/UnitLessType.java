@@ -9,19 +9,28 @@ package com.salesforce.slds.shared.converters.numbers;
 
 import com.salesforce.slds.shared.RegexPattern;
 import com.salesforce.slds.shared.converters.Converter;
+import com.salesforce.slds.shared.converters.ValueToken;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class UnitLessType extends NumberType {
 
     private static final Pattern pattern  = Pattern.compile(RegexPattern.NUMBER_PATTERN);
+    private static final Set<ValueToken.Kind> KINDS = EnumSet.of(ValueToken.Kind.NUMBER, ValueToken.Kind.DIMENSION);
 
     @Override
     public Matcher match(Converter.State state) {
         return pattern.matcher(state.getInput());
     }
 
+    @Override
+    public Set<ValueToken.Kind> getKinds() {
+        return KINDS;
+    }
+
     @Override
     public Converter.State process(Matcher matcher, Converter.State state) {
         String sign = matcher.group("sign");
@@ -35,9 +44,8 @@ public class UnitLessType extends NumberType {
 
         if ((numberEnd == length || length > numberEnd && input.charAt(numberEnd) == ' ')
             && (numberStart == 0 || sign != null || sign == null && input.charAt(numberStart - 1) == ' ')){
-            for (String value : generateNumbers(sign, number)) {
-                state = state.addValues(matcher, value);
-            }
+            state = state.addValues(matcher, toLength(sign, number, null),
+                    () -> generateNumbers(sign, number));
         }
 
         return state;
@@ -9,7 +9,10 @@ package com.salesforce.slds.shared.converters.numbers;
 
 import com.google.common.collect.ImmutableSet;
 import com.salesforce.slds.shared.converters.Converter;
+import com.salesforce.slds.shared.converters.ValueToken;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -18,6 +21,7 @@ import static com.salesforce.slds.shared.RegexPattern.NUMBER_WITH_UNIT_PATTERN;
 public class UnitType extends NumberType {
 
     private static final Pattern pattern = Pattern.compile(NUMBER_WITH_UNIT_PATTERN);
+    private static final Set<ValueToken.Kind> KINDS = EnumSet.of(ValueToken.Kind.DIMENSION);
 
     private static final ImmutableSet<String> SUPPORTED_UNIT =
             ImmutableSet.of("cm", "mm", "in", "px", "pt", "pc", "em", "ex", "ch", "rem",
@@ -28,6 +32,11 @@ public class UnitType extends NumberType {
         return pattern.matcher(state.getInput());
     }
 
+    @Override
+    public Set<ValueToken.Kind> getKinds() {
+        return KINDS;
+    }
+
     @Override
     public Converter.State process(Matcher matcher, Converter.State state) {
         String sign = matcher.group("sign");
@@ -35,9 +44,8 @@ public class UnitType extends NumberType {
         String unit = matcher.group("unit");
 
         if (SUPPORTED_UNIT.contains(unit.toLowerCase())) {
-            for (String value : generateNumbers(sign, number, unit)) {
-                state = state.addValues(matcher, value);
-            }
+            state = state.addValues(matcher, toLength(sign, number, unit),
+                    () -> generateNumbers(sign, number, unit));
         }
 
         return state;
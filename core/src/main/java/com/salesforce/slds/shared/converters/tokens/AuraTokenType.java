@@ -9,7 +9,10 @@ package com.salesforce.slds.shared.converters.tokens;
 
 import com.salesforce.slds.shared.converters.Converter;
 import com.salesforce.slds.shared.converters.Type;
+import com.salesforce.slds.shared.converters.ValueToken;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -18,6 +21,7 @@ import static com.salesforce.slds.shared.RegexPattern.AURA_TOKEN_FUNCTION;
 public class AuraTokenType implements Type {
 
     private static final Pattern pattern = Pattern.compile(AURA_TOKEN_FUNCTION, Pattern.CASE_INSENSITIVE);
+    private static final Set<ValueToken.Kind> KINDS = EnumSet.of(ValueToken.Kind.AURA_TOKEN);
 
 
     @Override
@@ -25,6 +29,11 @@ public class AuraTokenType implements Type {
         return pattern.matcher(state.getInput());
     }
 
+    @Override
+    public Set<ValueToken.Kind> getKinds() {
+        return KINDS;
+    }
+
     @Override
     public Converter.State process(Matcher matcher, Converter.State state) {
         state.addValues(matcher, matcher.group("token"));
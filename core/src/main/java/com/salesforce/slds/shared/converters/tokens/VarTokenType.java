@@ -8,7 +8,10 @@ package com.salesforce.slds.shared.converters.tokens;
 
 import com.salesforce.slds.shared.converters.Converter;
 import com.salesforce.slds.shared.converters.Type;
+import com.salesforce.slds.shared.converters.ValueToken;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -17,12 +20,18 @@ import static com.salesforce.slds.shared.RegexPattern.VAR_FUNCTION;
 public class VarTokenType implements Type {
 
     private static final Pattern pattern = Pattern.compile(VAR_FUNCTION, Pattern.CASE_INSENSITIVE);
+    private static final Set<ValueToken.Kind> KINDS = EnumSet.of(ValueToken.Kind.VAR);
 
     @Override
     public Matcher match(Converter.State state) {
         return pattern.matcher(state.getInput());
     }
 
+    @Override
+    public Set<ValueToken.Kind> getKinds() {
+        return KINDS;
+    }
+
     @Override
     public Converter.State process(Matcher matcher, Converter.State state) {
         state.addValues(matcher, matcher.group("token"));
@@ -11,11 +11,13 @@ public class Block extends Input {
     private int lineNumber;
     private String functionName;
     private String value;
+    private int offset;
 
-    private Block(int lineNumber, String functionName, String value) {
+    private Block(int lineNumber, String functionName, String value, int offset) {
         this.lineNumber = lineNumber;
         this.functionName = functionName;
         this.value = value;
+        this.offset = offset;
     }
 
     public int getLineNumber() {
@@ -42,6 +44,14 @@ public class Block extends Input {
         this.value = value;
     }
 
+    /**
+     * Offset of the value in the text of the file, or -1 when the value is not taken verbatim
+     * from the file.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
     public static BlockBuilder builder() {
         return new BlockBuilder();
     }
@@ -55,6 +65,7 @@ public class Block extends Input {
         private int lineNumber;
         private String functionName;
         private String value;
+        private int offset = -1;
 
         public BlockBuilder lineNumber(int lineNumber) {
             this.lineNumber = lineNumber;
@@ -71,8 +82,13 @@ public class Block extends Input {
             return this;
         }
 
+        public BlockBuilder offset(int offset) {
+            this.offset = offset;
+            return this;
+        }
+
         public Block build() {
-            return new Block(lineNumber, functionName, value);
+            return new Block(lineNumber, functionName, value, offset);
         }
     }
 }
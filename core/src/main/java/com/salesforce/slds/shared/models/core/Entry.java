@@ -9,6 +9,7 @@ package com.salesforce.slds.shared.models.core;
 
 import com.salesforce.slds.shared.models.annotations.Annotation;
 import com.salesforce.slds.shared.models.annotations.AnnotationType;
+import com.salesforce.slds.shared.models.locations.LineIndex;
 import com.salesforce.slds.shared.models.locations.Location;
 import com.salesforce.slds.shared.models.locations.Range;
 import com.salesforce.slds.shared.models.override.ComponentOverride;
@@ -28,7 +29,7 @@ public class Entry {
     private List<Input> inputs;
 
     private String path;
-    private final List<String> rawContent;
+    private final LineIndex rawContent;
 
     private String componentName;
     private EntityType entityType;
@@ -38,7 +39,7 @@ public class Entry {
                   EntityType entityType, String componentName) {
         this.inputs = inputs;
         this.path = path;
-        this.rawContent = rawContent;
+        this.rawContent = rawContent == null ? null : LineIndex.of(rawContent);
         this.entityType = entityType;
         this.componentName = componentName;
     }
@@ -177,6 +178,14 @@ public class Entry {
         return this.rawContent;
     }
 
+    /**
+     * The raw content with the offset of every line, shared by everything computing positions
+     * in this entry.
+     */
+    public LineIndex getLineIndex() {
+        return this.rawContent;
+    }
+
     public void setComponentName(String componentName) {
         this.componentName = componentName;
     }
@@ -215,7 +224,7 @@ public class Entry {
         }
 
         public EntryBuilder rawContent(List<String> rawContent) {
-            this.rawContent = rawContent;
+            this.rawContent = rawContent == null ? null : LineIndex.of(rawContent);
             return this;
         }
 
@@ -18,7 +18,6 @@ import org.jsoup.nodes.Element;
 
 import java.util.*;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.apache.commons.lang3.builder.ToStringStyle.JSON_STYLE;
@@ -28,11 +27,13 @@ public class HTMLElement extends Input implements Comparable<HTMLElement>, Range
     private final Element element;
     private final Range range;
     private final List<String> raw;
+    private final Map<String, Range> classes;
 
     private HTMLElement(Range range, Element element, List<String> raw) {
         this.element = element;
         this.range = range;
         this.raw = raw;
+        this.classes = indexClasses();
     }
 
     @Override
@@ -44,23 +45,44 @@ public class HTMLElement extends Input implements Comparable<HTMLElement>, Range
         return this.element;
     }
 
+    public List<String> getRaw() {
+        return this.raw;
+    }
+
     public Range getTagRange() {
         String tag = getContent().tagName();
-        return findRange(tag, 0, 0);
+        return findRange(tag, 0, 0, new String[raw.size()]);
     }
 
+    /**
+     * Class names of the element with their ranges, indexed once when the element is built.
+     */
     public Map<String, Range> getClasses() {
+        return this.classes;
+    }
+
+    private Map<String, Range> indexClasses() {
+        if (element == null || element.hasAttr("class") == false) {
+            return Collections.emptyMap();
+        }
+
         Map<String, Range> classes = new LinkedHashMap<>();
-        List<String> classNames = getContent().classNames()
-                .stream()
-                .map(s -> Arrays.asList(s.split("[,:\\(\\)?\\s]")))
-                .flatMap(List::stream)
-                .filter(s -> s.isEmpty() == false)
-                .collect(Collectors.toList());
+        List<String> classNames = new ArrayList<>();
+
+        for (String className : element.classNames()) {
+            for (String name : CLASS_SEPARATOR.split(className)) {
+                if (name.isEmpty() == false) {
+                    classNames.add(name);
+                }
+            }
+        }
 
         if (classNames.isEmpty() == false) {
+            // lower cased raw lines, filled in as they are searched and dropped once indexed
+            String[] lowerCase = new String[raw.size()];
+
             OptionalInt rowIndex = IntStream.range(0, raw.size())
-                    .filter(index -> raw.get(index).matches("class\\s*="))
+                    .filter(index -> CLASS_ATTRIBUTE.matcher(raw.get(index)).matches())
                     .findFirst();
 
             int lineIndex = rowIndex.orElse(0);
@@ -70,9 +92,13 @@ public class HTMLElement extends Input implements Comparable<HTMLElement>, Range
                 String cleansed = className.contains("slds-") &&
                         className.contains(".") == false ? cleanse(className) : className;
 
-                Range range = findRange(cleansed, lineIndex, column);
+                Range range = findRange(cleansed, lineIndex, column, lowerCase);
                 if (range == null) {
-                    range = findRange(cleansed, 0, 0);
+                    range = findRange(cleansed, 0, 0, lowerCase);
+                }
+
+                if (range == null) {
+                    continue;
                 }
 
                 classes.put(cleansed, range);
@@ -84,15 +110,15 @@ public class HTMLElement extends Input implements Comparable<HTMLElement>, Range
             }
         }
 
-        return classes;
+        return Collections.unmodifiableMap(classes);
     }
 
-    private Range findRange(String text, int line, int column) {
+    private Range findRange(String text, int line, int column, String[] lowerCase) {
         Range range = null;
         String target = text.toLowerCase();
 
         do {
-            String content = raw.get(line).toLowerCase();
+            String content = lowerCase(lowerCase, line);
 
             column = content.indexOf(target, column);
 
@@ -121,9 +147,19 @@ public class HTMLElement extends Input implements Comparable<HTMLElement>, Range
         return range;
     }
 
+    private String lowerCase(String[] lowerCase, int line) {
+        String content = lowerCase[line];
+
+        if (content == null) {
+            content = raw.get(line).toLowerCase();
+            lowerCase[line] = content;
+        }
+
+        return content;
+    }
+
     private String cleanse(String value) {
-        return EXPRESSION.matcher(value).replaceAll("")
-                .replaceAll("v\\.[a-zA-Z]+", "");
+        return VALUE_PROVIDER.matcher(EXPRESSION.matcher(value).replaceAll("")).replaceAll("");
     }
 
     private String xmlEscape(String content) {
@@ -131,7 +167,7 @@ public class HTMLElement extends Input implements Comparable<HTMLElement>, Range
     }
 
     private String escapeCharacter(String content) {
-        return content.replaceAll("--", "&#45;&#45;");
+        return content.replace("--", "&#45;&#45;");
     }
 
 
@@ -212,4 +248,8 @@ public class HTMLElement extends Input implements Comparable<HTMLElement>, Range
     }
 
     static final Pattern EXPRESSION = Pattern.compile("[\\{\\}!#\\+\\?\"\':\\(\\),]");
+    static final Pattern VALUE_PROVIDER = Pattern.compile("v\\.[a-zA-Z]+");
+
+    private static final Pattern CLASS_SEPARATOR = Pattern.compile("[,:\\(\\)?\\s]");
+    private static final Pattern CLASS_ATTRIBUTE = Pattern.compile("class\\s*=");
 }
@@ -30,14 +30,37 @@ public class RuleSet extends Input implements Comparable<RuleSet>, RangeProvider
     private final Rule rule;
     private final Range range;
     private final List<String> raw;
-    private final List<Style> styles;
-    private List<Style> stylesWithAnnotationType;
+    private final int lineOffset;
+
+    // built on first use; rule sets may be shared between runs, hence volatile
+    private volatile List<Style> styles;
+    private volatile List<Style> stylesWithAnnotationType;
 
     private RuleSet(Rule rule, Range range, List<String> raw) {
+        this(rule, range, raw, 0);
+    }
+
+    private RuleSet(Rule rule, Range range, List<String> raw, int lineOffset) {
         this.rule = rule;
         this.range = range;
         this.raw = raw;
-        this.styles = convertToStyles();
+        this.lineOffset = lineOffset;
+    }
+
+    /**
+     * The same rule set moved down by the given number of lines, sharing the parsed rule.
+     */
+    public RuleSet shift(int lines) {
+        return lines == 0 ? this :
+                new RuleSet(rule, range == null ? null : range.shift(lines), raw, lineOffset + lines);
+    }
+
+    /**
+     * Zero-based line of a node of this rule. The rule may have been parsed on its own, so
+     * the line Omakase reports is not necessarily its line in the entry.
+     */
+    public int getLine(Syntax syntax) {
+        return syntax.line() - 1 + lineOffset;
     }
 
     public Optional<AnnotationType> getAnnotationType() {
@@ -45,33 +68,39 @@ public class RuleSet extends Input implements Comparable<RuleSet>, RangeProvider
     }
 
     public List<Style> getStyles() {
-        return this.styles;
+        List<Style> styles = this.styles;
+
+        if (styles == null) {
+            styles = convertToStyles();
+            this.styles = styles;
+        }
+
+        return styles;
     }
 
+    /**
+     * The styles, falling back to the annotation type of the rule for those without one. They
+     * share the range of the corresponding style.
+     */
     public List<Style> getStylesWithAnnotationType() {
+        List<Style> stylesWithAnnotationType = this.stylesWithAnnotationType;
+
         if (stylesWithAnnotationType == null) {
-            Optional<AnnotationType> ruleAnnotationType = getAnnotationType();
             List<Style> annotatedStyles = new ArrayList<>();
 
             for (Style style : getStyles()) {
-                Style.StyleBuilder styleBuilder = Style.builder();
-                styleBuilder
-                        .property(style.getProperty())
-                        .value(style.getValue())
-                        .range(style.getRange())
-                        .declaration(style.getDeclaration())
-                        .condition(style.getCondition());
-
-                if (style.getAnnotationType() == null) {
-                    styleBuilder.annotationType(ruleAnnotationType.orElse(AnnotationType.NONE));
-                } else {
-                    styleBuilder.annotationType(style.getAnnotationType());
-                }
-
-                annotatedStyles.add(styleBuilder.build());
+                annotatedStyles.add(Style.lazy(style.getProperty(), style.getValue(),
+                        style.getDeclaration(), style.getCondition(),
+                        () -> {
+                            AnnotationType annotationType = style.getAnnotationType();
+                            return annotationType != null ? annotationType :
+                                    getAnnotationType().orElse(AnnotationType.NONE);
+                        },
+                        style::getRange));
             }
 
-            stylesWithAnnotationType = annotatedStyles;
+            stylesWithAnnotationType = Collections.unmodifiableList(annotatedStyles);
+            this.stylesWithAnnotationType = stylesWithAnnotationType;
         }
 
         return stylesWithAnnotationType;
@@ -143,7 +172,7 @@ public class RuleSet extends Input implements Comparable<RuleSet>, RangeProvider
     private List<Style> convertToStyles() {
         List<Style> styles = new ArrayList<>();
 
-        Style.StyleBuilder builder = Style.builder().declaration(getSelectorsAsString());
+        String selectors = getSelectorsAsString();
         final int anchor = getRule().line();
 
         SyntaxCollection<Rule, Declaration> declarations = getRule().declarations();
@@ -156,20 +185,17 @@ public class RuleSet extends Input implements Comparable<RuleSet>, RangeProvider
             String value = rawValue.isPresent() ?
                     rawValue.get().content() : declaration.toString(true);
 
-            Optional<AnnotationType> annotationType = getAnnotationType(declaration);
-            Location start = new Location(declaration.line() - 1, declaration.column() - 1);
-            Location end = findEndLocation(raw, declaration.line(), anchor, value);
-
-            styles.add(builder
-                    .property(name)
-                    .value(value)
-                    .range(new Range(start, end))
-                    .annotationType(annotationType.orElse(null))
-                    .build());
+            styles.add(Style.lazy(name, value, selectors, null,
+                    () -> getAnnotationType(declaration).orElse(null),
+                    () -> {
+                        Location start = new Location(getLine(declaration), declaration.column() - 1);
+                        Location end = findEndLocation(raw, declaration.line(), anchor, value);
 
+                        return new Range(start, new Location(end.getLine() + lineOffset, end.getColumn()));
+                    }));
         });
 
-        return styles;
+        return Collections.unmodifiableList(styles);
     }
 
     private Optional<AnnotationType> getAnnotationType(Syntax syntax) {
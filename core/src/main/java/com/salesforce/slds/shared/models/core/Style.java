@@ -14,15 +14,28 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import java.util.Optional;
+import java.util.function.Supplier;
+
 import static org.apache.commons.lang3.builder.ToStringStyle.JSON_STYLE;
 
+/**
+ * A declaration of a rule set. Styles parsed from a stylesheet resolve their annotation type and
+ * range only when first asked, since most of them are never reported on.
+ */
 public class Style extends Input implements RangeProvider {
     final String property;
     final String value;
     final String declaration;
     final String condition;
-    final AnnotationType annotationType;
-    final Range range;
+
+    private final Supplier<AnnotationType> annotationTypeSource;
+    private final Supplier<Range> rangeSource;
+
+    // Optional, unlike AnnotationType, tells an unresolved annotation type from a missing one;
+    // built on first use, and styles may be shared between runs and threads, hence volatile
+    private volatile Optional<AnnotationType> annotationType;
+    private volatile Range range;
 
     private Style(String property, String value, String declaration,
                   String condition, AnnotationType annotationType, Range range) {
@@ -30,10 +43,30 @@ public class Style extends Input implements RangeProvider {
         this.value = value;
         this.declaration = declaration;
         this.condition = condition;
-        this.annotationType = annotationType;
+        this.annotationTypeSource = null;
+        this.rangeSource = null;
+        this.annotationType = Optional.ofNullable(annotationType);
         this.range = range;
     }
 
+    private Style(String property, String value, String declaration, String condition,
+                  Supplier<AnnotationType> annotationType, Supplier<Range> range) {
+        this.property = property;
+        this.value = value;
+        this.declaration = declaration;
+        this.condition = condition;
+        this.annotationTypeSource = annotationType;
+        this.rangeSource = range;
+    }
+
+    /**
+     * A style whose annotation type and range are computed on first use.
+     */
+    static Style lazy(String property, String value, String declaration, String condition,
+                      Supplier<AnnotationType> annotationType, Supplier<Range> range) {
+        return new Style(property, value, declaration, condition, annotationType, range);
+    }
+
     public String getProperty() {
         return property;
     }
@@ -50,7 +83,16 @@ public class Style extends Input implements RangeProvider {
         return condition;
     }
 
-    public AnnotationType getAnnotationType() {return annotationType;}
+    public AnnotationType getAnnotationType() {
+        Optional<AnnotationType> annotationType = this.annotationType;
+
+        if (annotationType == null) {
+            annotationType = Optional.ofNullable(annotationTypeSource.get());
+            this.annotationType = annotationType;
+        }
+
+        return annotationType.orElse(null);
+    }
 
     public Boolean validate() {
 
@@ -63,7 +105,14 @@ public class Style extends Input implements RangeProvider {
 
     @Override
     public Range getRange() {
-        return this.range;
+        Range range = this.range;
+
+        if (range == null && rangeSource != null) {
+            range = rangeSource.get();
+            this.range = range;
+        }
+
+        return range;
     }
 
     @Override
@@ -103,8 +152,8 @@ public class Style extends Input implements RangeProvider {
                 .append("value", value)
                 .append("declaration", declaration)
                 .append("condition", condition)
-                .append("annotationType", annotationType)
-                .append("range", range)
+                .append("annotationType", getAnnotationType())
+                .append("range", getRange())
                 .toString();
     }
 
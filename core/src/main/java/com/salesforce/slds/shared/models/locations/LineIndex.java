@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.models.locations;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Lines of a document together with the offset each one starts at in the joined text, so
+ * offsets and locations convert into each other with a binary search instead of walking the
+ * lines. The parsers join lines with {@link System#lineSeparator()}, and so does this index.
+ *
+ * It is itself the read-only list of lines, so code holding an entry's raw content can get
+ * the index back through {@link #of(List)} without building it again.
+ */
+public final class LineIndex extends AbstractList<String> implements RandomAccess {
+
+    private static final String SEPARATOR = System.lineSeparator();
+
+    private final String[] lines;
+    private final int[] starts;
+    private String text;
+
+    private LineIndex(String[] lines) {
+        this.lines = lines;
+        this.starts = new int[lines.length];
+
+        int offset = 0;
+        for (int i = 0; i < lines.length; i++) {
+            starts[i] = offset;
+            offset += lines[i].length() + SEPARATOR.length();
+        }
+    }
+
+    public static LineIndex of(List<String> lines) {
+        if (lines instanceof LineIndex) {
+            return (LineIndex) lines;
+        }
+
+        return new LineIndex(lines.toArray(new String[0]));
+    }
+
+    @Override
+    public String get(int line) {
+        return lines[line];
+    }
+
+    @Override
+    public int size() {
+        return lines.length;
+    }
+
+    /**
+     * The lines joined with the line separator, built on first use.
+     */
+    public String getText() {
+        String text = this.text;
+
+        if (text == null) {
+            text = String.join(SEPARATOR, lines);
+            this.text = text;
+        }
+
+        return text;
+    }
+
+    public int getLength() {
+        return lines.length == 0 ? 0 : starts[lines.length - 1] + lines[lines.length - 1].length();
+    }
+
+    public int getOffset(int line, int column) {
+        return starts[line] + column;
+    }
+
+    public int getOffset(Location location) {
+        return getOffset(location.getLine(), location.getColumn());
+    }
+
+    /**
+     * Line and column of an offset in the joined text. An offset at the end of a line stays
+     * on that line.
+     */
+    public Location getLocation(int offset) {
+        if (lines.length == 0) {
+            return new Location(0, offset);
+        }
+
+        int line = Arrays.binarySearch(starts, offset);
+
+        if (line < 0) {
+            line = Math.max(0, -line - 2);
+        }
+
+        return new Location(line, offset - starts[line]);
+    }
+
+    public String substring(int start, int end) {
+        return getText().substring(start, end);
+    }
+
+    public String substring(Range range) {
+        return substring(getOffset(range.getStart()), getOffset(range.getEnd()));
+    }
+
+    /**
+     * The text of the range split into lines, as a read-only view that cuts the first and last
+     * line only when they are read.
+     */
+    public List<String> getLines(Range range) {
+        Location start = range.getStart();
+        Location end = range.getEnd();
+
+        return new Lines(start.getLine(), start.getColumn(), end.getLine(), end.getColumn());
+    }
+
+    /**
+     * Offset of the first occurrence of the text at or after the given offset, or -1.
+     */
+    public int indexOf(String value, int offset) {
+        return getText().indexOf(value, offset);
+    }
+
+    private final class Lines extends AbstractList<String> implements RandomAccess {
+        private final int startLine;
+        private final int startColumn;
+        private final int endLine;
+        private final int endColumn;
+
+        Lines(int startLine, int startColumn, int endLine, int endColumn) {
+            this.startLine = startLine;
+            this.startColumn = startColumn;
+            this.endLine = endLine;
+            this.endColumn = endColumn;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+
+            int line = startLine + index;
+            String content = lines[line];
+
+            return content.substring(line == startLine ? startColumn : 0,
+                    line == endLine ? endColumn : content.length());
+        }
+
+        @Override
+        public int size() {
+            return endLine - startLine + 1;
+        }
+    }
+}
@@ -17,8 +17,8 @@ public class Location {
 
     public static final Location DEFAULT_LOCATION = new Location(0,0);
 
-    private int line;
-    private int column;
+    private final int line;
+    private final int column;
 
     public Location(int line, int column) {
         this.line = line;
@@ -34,6 +34,18 @@ public class Range implements Comparable<Range> {
         return this.end;
     }
 
+    /**
+     * The same range moved down by the given number of lines.
+     */
+    public Range shift(int lines) {
+        if (lines == 0) {
+            return this;
+        }
+
+        return new Range(new Location(start.getLine() + lines, start.getColumn()),
+                new Location(end.getLine() + lines, end.getColumn()));
+    }
+
     public boolean within(Range other) {
         if (other.getStart().getLine() < start.getLine() ||
                 (start.getLine() == other.getStart().getLine() && start.getColumn() > other.getStart().getColumn())) {
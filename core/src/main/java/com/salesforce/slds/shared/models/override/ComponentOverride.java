@@ -67,8 +67,10 @@ public class ComponentOverride {
         int startColumn = indexOfBeginningSpace == -1 ? 0 : selector.column() + indexOfBeginningSpace;
         int endColumn = indexOfEndingSpace == -1 ? selectorString.length() : selector.column() - 1 + indexOfEndingSpace;
 
-        Location start = new Location(selector.line() - 1, startColumn);
-        Location end = new Location(selector.line() - 1, endColumn);
+        int line = rule == null ? selector.line() - 1 : rule.getLine(selector);
+
+        Location start = new Location(line, startColumn);
+        Location end = new Location(line, endColumn);
 
         return new Range(start, end);
     }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.parsers;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.salesforce.omakase.ast.Rule;
+import com.salesforce.slds.shared.models.core.HTMLElement;
+import com.salesforce.slds.shared.models.core.Input;
+import com.salesforce.slds.shared.models.core.RuleSet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Parsed inputs of files, keyed by what was parsed: the kind of parser and its version, the
+ * path and a hash of the content. A file that did not change since it was last parsed, in
+ * this run or another, is not parsed again. The cache is bounded by an estimate of the heap
+ * its entries retain: the parsed trees hold a few hundred bytes per rule, declaration,
+ * selector, element and attribute, besides copies of the text.
+ */
+public class ParseCache {
+
+    /**
+     * Parsers whose results are cached. Bump a version when its parser changes what it
+     * produces, so results of the previous one are not reused.
+     */
+    public enum Kind {
+        CSS(1), MARKUP(1), JAVASCRIPT(2);
+
+        private final int version;
+
+        Kind(int version) {
+            this.version = version;
+        }
+
+        public int getVersion() {
+            return version;
+        }
+    }
+
+    public static final long DEFAULT_WEIGHT = 64L * 1024 * 1024;
+
+    // rough bytes retained per node of an Omakase or jsoup tree, and per character of source
+    static final int NODE_BYTES = 400;
+    static final int CHAR_BYTES = 4;
+
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
+    private final Cache<Key, Parsed> parsed;
+
+    public ParseCache() {
+        this(DEFAULT_WEIGHT);
+    }
+
+    /**
+     * @param maximumWeight estimated number of bytes retained by the parsed inputs to keep
+     */
+    public ParseCache(long maximumWeight) {
+        this.parsed = CacheBuilder.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Key key, Parsed value) -> value.weight)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Inputs parsed from the lines, calling the parser only when these lines were not parsed
+     * for this path before. The returned list is read-only and shared.
+     */
+    public <T extends Input> List<T> get(Kind kind, String path, List<String> lines, Supplier<List<T>> parser) {
+        Key key = new Key(kind, path, hash(lines));
+
+        try {
+            @SuppressWarnings("unchecked")
+            List<T> inputs = (List<T>) parsed.get(key, () -> {
+                List<T> results = parser.get();
+                return new Parsed(results, weigh(lines, results));
+            }).inputs;
+            return inputs;
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    public CacheStats getStats() {
+        return parsed.stats();
+    }
+
+    public long size() {
+        return parsed.size();
+    }
+
+    public void clear() {
+        parsed.invalidateAll();
+    }
+
+    private static HashCode hash(List<String> lines) {
+        Hasher hasher = HASH.newHasher();
+
+        for (String line : lines) {
+            hasher.putInt(line.length()).putUnencodedChars(line);
+        }
+
+        return hasher.hash();
+    }
+
+    /**
+     * Estimated bytes retained by the inputs parsed from the lines.
+     */
+    static int weigh(List<String> lines, List<? extends Input> inputs) {
+        long characters = 0;
+
+        for (String line : lines) {
+            characters += line.length() + 1;
+        }
+
+        long nodes = 0;
+
+        for (Input input : inputs) {
+            nodes += 1;
+
+            if (input instanceof RuleSet) {
+                Rule rule = ((RuleSet) input).getRule();
+                nodes += rule.selectors().size() + rule.declarations().size();
+            } else if (input instanceof HTMLElement) {
+                nodes += ((HTMLElement) input).getContent().attributesSize();
+            }
+        }
+
+        return (int) Math.min(characters * CHAR_BYTES + nodes * NODE_BYTES, Integer.MAX_VALUE);
+    }
+
+    private static final class Parsed {
+        private final List<? extends Input> inputs;
+        private final int weight;
+
+        Parsed(List<? extends Input> inputs, int weight) {
+            this.inputs = Collections.unmodifiableList(new ArrayList<>(inputs));
+            this.weight = weight;
+        }
+    }
+
+    private static final class Key {
+        private final Kind kind;
+        private final int version;
+        private final String path;
+        private final HashCode content;
+
+        Key(Kind kind, String path, HashCode content) {
+            this.kind = kind;
+            this.version = kind.getVersion();
+            this.path = path;
+            this.content = content;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Key key = (Key) o;
+
+            return kind == key.kind && version == key.version &&
+                    Objects.equals(path, key.path) && content.equals(key.content);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, version, path, content);
+        }
+    }
+}
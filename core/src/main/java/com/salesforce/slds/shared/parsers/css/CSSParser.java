@@ -11,27 +11,106 @@ import com.salesforce.omakase.Omakase;
 import com.salesforce.omakase.ast.Rule;
 import com.salesforce.omakase.plugin.core.SyntaxTree;
 import com.salesforce.slds.shared.models.core.RuleSet;
+import com.salesforce.slds.shared.models.locations.LineIndex;
 import com.salesforce.slds.shared.models.locations.Location;
 import com.salesforce.slds.shared.models.locations.Range;
-import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 public class CSSParser {
 
+    /**
+     * Stylesheets of at least this many lines are parsed in chunks in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 5000;
+
+    static final int CHUNK_LINES = 1000;
+
+    // chunks are parsed on the fork-join pool the caller runs on, such as the validation pool,
+    // and on this one otherwise, so parsing never competes for the common pool
+    private static volatile ForkJoinPool pool;
+
     public static List<RuleSet> parse(List<String> lines) {
+        return lines.size() < PARALLEL_THRESHOLD ? parseAll(lines) : parseInChunks(lines, CHUNK_LINES);
+    }
+
+    /**
+     * Splits the lines where a top-level rule closes into chunks of about the given number of
+     * lines, parses them in parallel and moves their rule sets to the line each chunk starts
+     * at. The result is the same as parsing the lines at once.
+     */
+    public static List<RuleSet> parseInChunks(List<String> lines, int chunkLines) {
+        List<int[]> chunks = new ArrayList<>();
+        int[] chunk = null;
+
+        for (int[] bounds : IncrementalCSSParser.split(lines)) {
+            if (chunk == null || chunk[1] - chunk[0] >= chunkLines) {
+                chunk = bounds.clone();
+                chunks.add(chunk);
+            } else {
+                chunk[1] = bounds[1];
+            }
+        }
+
+        if (chunks.size() < 2) {
+            return parseAll(lines);
+        }
+
+        Supplier<List<RuleSet>> parse = () -> chunks.parallelStream()
+                .flatMap(bounds -> parseAll(lines.subList(bounds[0], bounds[1])).stream()
+                        .map(ruleSet -> ruleSet.shift(bounds[0])))
+                .collect(Collectors.toList());
+
+        ForkJoinPool current = ForkJoinTask.getPool();
+
+        if (current != null && current != ForkJoinPool.commonPool()) {
+            return parse.get();
+        }
+
+        return getPool().submit(parse::get).join();
+    }
+
+    private static ForkJoinPool getPool() {
+        ForkJoinPool pool = CSSParser.pool;
+
+        if (pool == null) {
+            synchronized (CSSParser.class) {
+                pool = CSSParser.pool;
+
+                if (pool == null) {
+                    pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), forkJoinPool -> {
+                        ForkJoinWorkerThread thread =
+                                ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                        thread.setName("slds-css-parser-" + thread.getPoolIndex());
+                        thread.setDaemon(true);
+                        return thread;
+                    }, null, false);
+                    CSSParser.pool = pool;
+                }
+            }
+        }
+
+        return pool;
+    }
+
+    private static List<RuleSet> parseAll(List<String> lines) {
+        LineIndex index = LineIndex.of(lines);
         SyntaxTree tree = new SyntaxTree();
 
-        Omakase.source(
-                StringUtils.collectionToDelimitedString(lines, System.lineSeparator()))
+        Omakase.source(index.getText())
                 .use(new SLDSTokenFactory.SLDSGrammarPlugin(), tree).process();
 
         List<RuleSet> ruleSets = new ArrayList<>();
 
         for (Rule rule : tree.stylesheet().rules()) {
             Location start = new Location(rule.line() - 1, rule.column() - 1);
-            Location end = findEndLocation(lines, start);
+            Location end = findEndLocation(index, start);
 
             ruleSets.add(
                     RuleSet.builder().rule(rule)
@@ -43,20 +122,15 @@ public class CSSParser {
         return ruleSets;
     }
 
-    private static Location findEndLocation(List<String> lines, Location location) {
-        int column = location.getColumn();
-
-        for (int index = location.getLine() ; index  < lines.size() ; index ++) {
-            String line = lines.get(index);
-
-            if (line.indexOf(END_BRACKET, column) != -1) {
-                return new Location(index , line.indexOf(END_BRACKET, column) + END_BRACKET.length());
-            }
+    private static Location findEndLocation(LineIndex lines, Location location) {
+        int offset = lines.indexOf(END_BRACKET, lines.getOffset(location));
 
-            column = -1;
+        if (offset == -1) {
+            throw new RuntimeException("Can't find END_BRACKET: " + lines);
         }
 
-        throw new RuntimeException("Can't find END_BRACKET: " + lines);
+        Location end = lines.getLocation(offset);
+        return new Location(end.getLine(), end.getColumn() + END_BRACKET.length());
     }
 
     private static final String END_BRACKET = "}";
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.parsers.css;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.salesforce.slds.shared.models.core.RuleSet;
+import com.salesforce.slds.shared.models.locations.LineIndex;
+
+import java.util.*;
+
+/**
+ * Reparses a stylesheet one top-level rule at a time, remembering the last version of each
+ * document. The lines are split where a top-level rule closes; chunks whose content is
+ * unchanged reuse the rule sets parsed last time, moved to their new line, and only the
+ * others go through {@link CSSParser}. A document seen for the first time is parsed whole.
+ */
+public class IncrementalCSSParser {
+
+    public static final int DEFAULT_DOCUMENTS = 64;
+
+    private final Cache<String, Stylesheet> documents;
+
+    public IncrementalCSSParser() {
+        this(DEFAULT_DOCUMENTS);
+    }
+
+    public IncrementalCSSParser(int documents) {
+        this.documents = CacheBuilder.newBuilder().maximumSize(documents).build();
+    }
+
+    /**
+     * Rule sets of the given lines, equal to {@link CSSParser#parse(List)} on the same lines.
+     */
+    public List<RuleSet> parse(String path, List<String> lines) {
+        Stylesheet previous = documents.getIfPresent(path);
+
+        if (previous == null) {
+            return parseAll(path, lines);
+        }
+
+        Stylesheet current = new Stylesheet();
+        List<RuleSet> ruleSets = new ArrayList<>();
+
+        for (int[] bounds : split(lines)) {
+            int start = bounds[0];
+            // keyed by the lines themselves, whose hashes strings cache
+            List<String> content = new ArrayList<>(lines.subList(start, bounds[1]));
+
+            Chunk chunk = previous.chunks.get(content);
+
+            if (chunk == null) {
+                chunk = new Chunk(start, parse(content, start));
+            } else if (chunk.start != start) {
+                chunk = chunk.shift(start);
+            }
+
+            current.chunks.putIfAbsent(content, chunk);
+            ruleSets.addAll(chunk.ruleSets);
+        }
+
+        documents.put(path, current);
+
+        return ruleSets;
+    }
+
+    /**
+     * Parses a stylesheet seen for the first time in one go, then hands each chunk the rule
+     * sets starting in it, so later edits can reuse them.
+     */
+    private List<RuleSet> parseAll(String path, List<String> lines) {
+        // the raw lines of the rule sets are views, so they must not see later edits of the caller's list
+        List<RuleSet> ruleSets = CSSParser.parse(LineIndex.of(lines));
+        Stylesheet current = new Stylesheet();
+
+        int next = 0;
+
+        for (int[] bounds : split(lines)) {
+            int first = next;
+
+            while (next < ruleSets.size() && ruleSets.get(next).getRange().getStart().getLine() < bounds[1]) {
+                next++;
+            }
+
+            current.chunks.putIfAbsent(new ArrayList<>(lines.subList(bounds[0], bounds[1])),
+                    new Chunk(bounds[0], new ArrayList<>(ruleSets.subList(first, next))));
+        }
+
+        documents.put(path, current);
+
+        return ruleSets;
+    }
+
+    public void remove(String path) {
+        documents.invalidate(path);
+    }
+
+    private static List<RuleSet> parse(List<String> lines, int start) {
+        List<RuleSet> ruleSets = new ArrayList<>(CSSParser.parse(lines));
+
+        if (start != 0) {
+            ruleSets.replaceAll(ruleSet -> ruleSet.shift(start));
+        }
+
+        return ruleSets;
+    }
+
+    /**
+     * Line bounds, end exclusive, of each top-level chunk. A chunk ends with the line that
+     * closes a top-level block, unless anything but whitespace follows the brace on that line;
+     * comments and strings are skipped so braces inside them do not count.
+     */
+    static List<int[]> split(List<String> lines) {
+        List<int[]> chunks = new ArrayList<>();
+
+        int start = 0;
+        int depth = 0;
+        boolean comment = false;
+
+        for (int index = 0; index < lines.size(); index++) {
+            String line = lines.get(index);
+            boolean closed = false;
+            char quote = 0;
+
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+
+                if (comment) {
+                    if (c == '*' && i + 1 < line.length() && line.charAt(i + 1) == '/') {
+                        comment = false;
+                        i++;
+                    }
+                } else if (quote != 0) {
+                    if (c == '\\') {
+                        i++;
+                    } else if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (c == '/' && i + 1 < line.length() && line.charAt(i + 1) == '*') {
+                    comment = true;
+                    closed = false;
+                    i++;
+                } else if (c == '"' || c == '\'') {
+                    quote = c;
+                    closed = false;
+                } else if (c == '{') {
+                    depth++;
+                    closed = false;
+                } else if (c == '}' && depth > 0) {
+                    depth--;
+                    closed = depth == 0;
+                } else if (Character.isWhitespace(c) == false) {
+                    closed = false;
+                }
+            }
+
+            if (closed && comment == false) {
+                chunks.add(new int[] {start, index + 1});
+                start = index + 1;
+            }
+        }
+
+        if (start < lines.size()) {
+            chunks.add(new int[] {start, lines.size()});
+        }
+
+        return chunks;
+    }
+
+    private static final class Stylesheet {
+        private final Map<List<String>, Chunk> chunks = new HashMap<>();
+    }
+
+    private static final class Chunk {
+        private final int start;
+        private final List<RuleSet> ruleSets;
+
+        Chunk(int start, List<RuleSet> ruleSets) {
+            this.start = start;
+            this.ruleSets = ruleSets;
+        }
+
+        Chunk shift(int start) {
+            List<RuleSet> ruleSets = new ArrayList<>(this.ruleSets.size());
+
+            for (RuleSet ruleSet : this.ruleSets) {
+                ruleSets.add(ruleSet.shift(start - this.start));
+            }
+
+            return new Chunk(start, ruleSets);
+        }
+    }
+}
@@ -8,10 +8,10 @@
 package com.salesforce.slds.shared.parsers.javascript;
 
 import com.salesforce.slds.shared.models.core.Block;
+import com.salesforce.slds.shared.models.locations.LineIndex;
 import org.mozilla.javascript.CompilerEnvirons;
 import org.mozilla.javascript.Parser;
 import org.mozilla.javascript.ast.*;
-import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,6 +20,25 @@ import java.util.stream.Collectors;
 
 public class JavascriptParser {
 
+    private static final String CLASS_PREFIX = "slds-";
+
+    /**
+     * Blocks of the string and template literals that mention a class, each with its offset
+     * in the file. A file without any class is not scanned at all, and one the scanner cannot
+     * follow is parsed with {@link #convert(String, List)} instead.
+     */
+    public static List<Block> parse(String path, List<String> lines) {
+        LineIndex index = LineIndex.of(lines);
+
+        if (index.getText().contains(CLASS_PREFIX) == false) {
+            return new ArrayList<>();
+        }
+
+        List<Block> blocks = StringLiteralScanner.scan(index);
+
+        return blocks != null ? blocks : convert(path, lines);
+    }
+
     public static List<Block> convert(String path, List<String> lines) {
 
         try {
@@ -27,9 +46,7 @@ public class JavascriptParser {
             env.setRecoverFromErrors(true);
             env.setStrictMode(false);
             env.setWarnTrailingComma(false);
-            AstRoot node = new Parser(env).parse(
-                    StringUtils.collectionToDelimitedString(lines, System.lineSeparator()),
-                    path, 1);
+            AstRoot node = new Parser(env).parse(LineIndex.of(lines).getText(), path, 1);
 
             BlockVisitor blockVisitor = new BlockVisitor();
             node.visitAll(blockVisitor);
@@ -52,7 +69,7 @@ public class JavascriptParser {
     private static Optional<Block> defaultBlock(List<String> lines) {
         int index = 0;
         for (String line : lines) {
-            if (line.contains("slds-")) {
+            if (line.contains(CLASS_PREFIX)) {
                 Block.BlockBuilder builder = Block.builder();
 
                 builder.value(line)
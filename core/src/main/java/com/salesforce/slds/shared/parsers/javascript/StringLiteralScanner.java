@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.parsers.javascript;
+
+import com.google.common.collect.ImmutableSet;
+import com.salesforce.slds.shared.models.core.Block;
+import com.salesforce.slds.shared.models.locations.LineIndex;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds the string and template literals of a script that mention a class, in one pass over
+ * the text. Comments and regular expressions are skipped; the parts of a template literal
+ * are scanned on their own, with the expressions between them scanned as code.
+ *
+ * Gives up, returning null, on anything it cannot follow, such as an unterminated literal.
+ */
+class StringLiteralScanner {
+
+    private static final String CLASS_PREFIX = "slds-";
+
+    private static final Set<String> KEYWORDS_BEFORE_EXPRESSION = ImmutableSet.of(
+            "return", "typeof", "instanceof", "in", "of", "new", "delete", "void",
+            "throw", "case", "do", "else", "yield", "await");
+
+    private final LineIndex index;
+    private final String text;
+    private final List<Block> blocks = new ArrayList<>();
+
+    // brace depth of each template literal expression the scanner is in
+    private final Deque<int[]> templates = new ArrayDeque<>();
+
+    private int position = 0;
+    private boolean expressionAllowed = true;
+
+    private StringLiteralScanner(LineIndex index) {
+        this.index = index;
+        this.text = index.getText();
+    }
+
+    static List<Block> scan(LineIndex index) {
+        StringLiteralScanner scanner = new StringLiteralScanner(index);
+        return scanner.scan() ? scanner.blocks : null;
+    }
+
+    private boolean scan() {
+        int length = text.length();
+
+        while (position < length) {
+            char c = text.charAt(position);
+            char next = position + 1 < length ? text.charAt(position + 1) : 0;
+
+            if (Character.isWhitespace(c)) {
+                position++;
+            } else if (c == '/' && next == '/') {
+                int end = text.indexOf('\n', position);
+                position = end == -1 ? length : end + 1;
+            } else if (c == '/' && next == '*') {
+                int end = text.indexOf("*/", position + 2);
+                if (end == -1) {
+                    return false;
+                }
+                position = end + 2;
+            } else if (c == '\'' || c == '"') {
+                if (string(c) == false) {
+                    return false;
+                }
+                expressionAllowed = false;
+            } else if (c == '`') {
+                position++;
+                if (template() == false) {
+                    return false;
+                }
+            } else if (c == '/' && expressionAllowed) {
+                if (regularExpression() == false) {
+                    return false;
+                }
+                expressionAllowed = false;
+            } else if (Character.isJavaIdentifierPart(c)) {
+                int start = position;
+                while (position < length && Character.isJavaIdentifierPart(text.charAt(position))) {
+                    position++;
+                }
+                expressionAllowed = KEYWORDS_BEFORE_EXPRESSION.contains(text.substring(start, position));
+            } else if (c == '}' && templates.isEmpty() == false && templates.peek()[0] == 0) {
+                templates.pop();
+                position++;
+                if (template() == false) {
+                    return false;
+                }
+            } else {
+                if (templates.isEmpty() == false) {
+                    if (c == '{') {
+                        templates.peek()[0]++;
+                    } else if (c == '}') {
+                        templates.peek()[0]--;
+                    }
+                }
+
+                expressionAllowed = c != ')' && c != ']';
+                position++;
+            }
+        }
+
+        return templates.isEmpty();
+    }
+
+    private boolean string(char quote) {
+        int start = ++position;
+
+        while (position < text.length()) {
+            char c = text.charAt(position);
+
+            if (c == '\\') {
+                position += 2;
+            } else if (c == quote) {
+                literal(start, position);
+                position++;
+                return true;
+            } else if (c == '\n' || c == '\r') {
+                return false;
+            } else {
+                position++;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Scans the template literal from the current position up to its end or the start of its
+     * next expression, which is then scanned as code until its closing brace.
+     */
+    private boolean template() {
+        int start = position;
+
+        while (position < text.length()) {
+            char c = text.charAt(position);
+
+            if (c == '\\') {
+                position += 2;
+            } else if (c == '`') {
+                literal(start, position);
+                position++;
+                expressionAllowed = false;
+                return true;
+            } else if (c == '$' && position + 1 < text.length() && text.charAt(position + 1) == '{') {
+                literal(start, position);
+                position += 2;
+                templates.push(new int[] {0});
+                expressionAllowed = true;
+                return true;
+            } else {
+                position++;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean regularExpression() {
+        boolean inClass = false;
+        position++;
+
+        while (position < text.length()) {
+            char c = text.charAt(position);
+
+            if (c == '\\') {
+                position += 2;
+                continue;
+            }
+
+            if (c == '\n' || c == '\r') {
+                return false;
+            }
+
+            position++;
+
+            if (c == '[') {
+                inClass = true;
+            } else if (c == ']') {
+                inClass = false;
+            } else if (c == '/' && inClass == false) {
+                while (position < text.length() && Character.isJavaIdentifierPart(text.charAt(position))) {
+                    position++;
+                }
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void literal(int start, int end) {
+        String value = text.substring(start, end);
+
+        if (value.contains(CLASS_PREFIX)) {
+            blocks.add(Block.builder()
+                    .value(value)
+                    .offset(start)
+                    .lineNumber(index.getLocation(start).getLine() + 1)
+                    .functionName("")
+                    .build());
+        }
+    }
+}
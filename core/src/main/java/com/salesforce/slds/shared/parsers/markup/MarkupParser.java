@@ -7,12 +7,12 @@
 package com.salesforce.slds.shared.parsers.markup;
 
 import com.salesforce.slds.shared.models.core.HTMLElement;
+import com.salesforce.slds.shared.models.locations.LineIndex;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Node;
 import org.jsoup.parser.LightningTreeBuilder;
 import org.jsoup.parser.Parser;
-import org.springframework.util.StringUtils;
 import org.jsoup.select.NodeTraversor;
 import org.jsoup.select.NodeVisitor;
 
@@ -22,8 +22,8 @@ public class MarkupParser {
 
 
     public static List<HTMLElement> parse(String path, List<String> lines) {
-        String html = StringUtils.collectionToDelimitedString(lines, System.lineSeparator());
-        Document document = Jsoup.parse(html, path, new Parser(new LightningTreeBuilder(lines)));
+        LineIndex index = LineIndex.of(lines);
+        Document document = Jsoup.parse(index.getText(), path, new Parser(new LightningTreeBuilder(index)));
 
         MarkupVisitor visitor = new MarkupVisitor();
         NodeTraversor.traverse(visitor, document.children());
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.utils;
+
+import com.salesforce.slds.shared.converters.Converter;
+
+import java.util.*;
+
+/**
+ * Every way of writing a value with each converted location replaced by one of its spellings,
+ * kept as the text between locations and the spellings of each location rather than as the
+ * product itself.
+ *
+ * {@link #contains(String)} checks a candidate against the locations in order and stops at
+ * the first spelling that does not fit. Iterating generates the product lazily, up to the
+ * configured limit.
+ */
+public class PossibleValues implements Iterable<String> {
+
+    private final List<String> gaps;
+    private final List<List<String>> spellings;
+    private final int limit;
+
+    PossibleValues(String value, Converter.State state, int limit) {
+        this.limit = limit;
+
+        List<String> gaps = new ArrayList<>();
+        List<List<String>> spellings = new ArrayList<>();
+        int end = 0;
+
+        for (Converter.State.Location location : state.getLocations()) {
+            gaps.add(value.substring(end, location.getStart()));
+            spellings.add(new ArrayList<>(state.getValues(location)));
+            end = location.getEnd();
+        }
+
+        gaps.add(value.substring(end));
+
+        this.gaps = Collections.unmodifiableList(gaps);
+        this.spellings = Collections.unmodifiableList(spellings);
+    }
+
+    /**
+     * Text before each location, followed by the text after the last one.
+     */
+    public List<String> getGaps() {
+        return gaps;
+    }
+
+    /**
+     * Spellings of each location, in order.
+     */
+    public List<List<String>> getSpellings() {
+        return spellings;
+    }
+
+    public boolean isEmpty() {
+        if (spellings.isEmpty()) {
+            return true;
+        }
+
+        for (List<String> alternatives : spellings) {
+            if (alternatives.isEmpty()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Number of combinations, saturating at {@link Long#MAX_VALUE}.
+     */
+    public long size() {
+        if (isEmpty()) {
+            return 0;
+        }
+
+        long size = 1;
+
+        for (List<String> alternatives : spellings) {
+            if (size > Long.MAX_VALUE / alternatives.size()) {
+                return Long.MAX_VALUE;
+            }
+            size *= alternatives.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * Whether iterating stops at the limit before every combination was generated.
+     * {@link #contains(String)} is not limited.
+     */
+    public boolean isTruncated() {
+        return size() > limit;
+    }
+
+    public boolean contains(String candidate) {
+        return isEmpty() == false && contains(candidate, 0, 0);
+    }
+
+    private boolean contains(String candidate, int location, int position) {
+        String gap = gaps.get(location);
+
+        if (candidate.startsWith(gap, position) == false) {
+            return false;
+        }
+
+        position += gap.length();
+
+        if (location == spellings.size()) {
+            return position == candidate.length();
+        }
+
+        for (String spelling : spellings.get(location)) {
+            if (candidate.startsWith(spelling, position) &&
+                    contains(candidate, location + 1, position + spelling.length())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Combinations in the order the last location varies fastest. Stops once the limit is
+     * reached, see {@link #isTruncated()}.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        if (isEmpty()) {
+            return Collections.emptyIterator();
+        }
+
+        return new Iterator<String>() {
+            private final int[] indexes = new int[spellings.size()];
+            private boolean done;
+            private int count;
+
+            @Override
+            public boolean hasNext() {
+                return done == false && count < limit;
+            }
+
+            @Override
+            public String next() {
+                if (hasNext() == false) {
+                    throw new NoSuchElementException();
+                }
+
+                StringBuilder result = new StringBuilder();
+
+                for (int i = 0; i < indexes.length; i++) {
+                    result.append(gaps.get(i)).append(spellings.get(i).get(indexes[i]));
+                }
+                result.append(gaps.get(indexes.length));
+
+                count++;
+                advance();
+
+                return result.toString();
+            }
+
+            private void advance() {
+                for (int i = indexes.length - 1; i >= 0; i--) {
+                    if (++indexes[i] < spellings.get(i).size()) {
+                        return;
+                    }
+                    indexes[i] = 0;
+                }
+
+                done = true;
+            }
+        };
+    }
+}
@@ -64,12 +64,35 @@ public class TokenUtilities {
         return generatePatterns(value, state);
     }
 
+    /**
+     * The value itself and, when it has converted locations, a single pattern accepting any of
+     * their combinations: each location becomes an alternation of its spellings, so the
+     * pattern grows with the number of spellings rather than with their product.
+     */
     Set<String> generatePatterns(String value, Converter.State state) {
-        Set<String> patterns = valueUtilities.generatePossibleValues(value, state);
-        patterns.add(value);
+        Set<String> patterns = new HashSet<>();
+        patterns.add(whitespace(value));
+
+        PossibleValues possibleValues = valueUtilities.getPossibleValues(value, state);
+
+        if (possibleValues.isEmpty() == false) {
+            StringBuilder combined = new StringBuilder();
+
+            for (int i = 0; i < possibleValues.getSpellings().size(); i++) {
+                combined.append(whitespace(possibleValues.getGaps().get(i))).append("(?:");
+                combined.append(possibleValues.getSpellings().get(i).stream()
+                        .map(TokenUtilities::whitespace).collect(Collectors.joining("|")));
+                combined.append(")");
+            }
+
+            combined.append(whitespace(possibleValues.getGaps().get(possibleValues.getSpellings().size())));
+            patterns.add(combined.toString());
+        }
+
+        return patterns;
+    }
 
-        return patterns
-                .stream().map(pattern -> pattern.replaceAll("\\s", "\\\\s*"))
-                .collect(Collectors.toSet());
+    private static String whitespace(String pattern) {
+        return pattern.replaceAll("\\s", "\\\\s*");
     }
 }
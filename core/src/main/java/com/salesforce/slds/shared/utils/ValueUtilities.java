@@ -8,20 +8,35 @@
 package com.salesforce.slds.shared.utils;
 
 import com.salesforce.slds.shared.converters.Converter;
+import com.salesforce.slds.shared.converters.StateCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Component
 public class ValueUtilities {
 
+    /**
+     * Most combinations {@link #generatePossibleValues(String, Converter.State)} materializes.
+     */
+    public static final int DEFAULT_POSSIBLE_VALUES_LIMIT = 1024;
+
     private final List<Converter> converters;
+    private final StateCache stateCache;
+    private final int possibleValuesLimit;
 
-    @Autowired
     public ValueUtilities(List<Converter> converters) {
+        this(converters, new StateCache(), DEFAULT_POSSIBLE_VALUES_LIMIT);
+    }
+
+    @Autowired
+    public ValueUtilities(List<Converter> converters, StateCache stateCache,
+                          @Value("${slds.possibleValues.limit:" + DEFAULT_POSSIBLE_VALUES_LIMIT + "}") int possibleValuesLimit) {
         this.converters = converters;
+        this.stateCache = stateCache;
+        this.possibleValuesLimit = possibleValuesLimit;
     }
 
     public List<String> possibleValues(String value) {
@@ -32,68 +47,27 @@ public class ValueUtilities {
         return new ArrayList<>(possibleValues);
     }
 
-    public Converter.State getState(String value) {
-        Converter.State state = new Converter.State(value);
+    public List<Converter> getConverters() {
+        return converters;
+    }
 
-        for (Converter converter : converters) {
-            state = converter.process(state);
-        }
+    /**
+     * Converted, read-only state of the value, shared with every other caller converting it.
+     */
+    public Converter.State getState(String value) {
+        return stateCache.get(converters, value);
+    }
 
-        return state;
+    /**
+     * Lazy view of the combinations, for probing membership without generating them.
+     */
+    public PossibleValues getPossibleValues(String value, Converter.State state) {
+        return new PossibleValues(value, state, possibleValuesLimit);
     }
 
     public Set<String> generatePossibleValues(String value, Converter.State state) {
-        List<String> possibleValues = new ArrayList<>();
-
-        List<Converter.State.Location> locations =
-                state.getValues().keySet().stream()
-                        .sorted(Comparator.comparingInt(Converter.State.Location::getStart))
-                        .collect(Collectors.toList());
-
-        Converter.State.Location lastLocation = null;
-
-        for (Converter.State.Location location : locations) {
-            List<String> newPossibleValues = new ArrayList<>();
-            Set<String> tokens = state.getValues().get(location);
-
-            if (possibleValues.isEmpty()) {
-                StringBuilder sb = new StringBuilder();
-
-                sb.append(value, 0, location.getStart());
-
-                for (String token : tokens) {
-                    newPossibleValues.add(sb.toString() + token);
-                }
-
-            } else {
-
-                for (String v : possibleValues) {
-                    StringBuilder sb = new StringBuilder();
-
-                    sb.append(v);
-
-                    if (lastLocation != null) {
-                        sb.append(value, lastLocation.getEnd(), location.getStart());
-                    }
-
-                    for (String token : tokens) {
-                        newPossibleValues.add(sb.toString() + token);
-                    }
-                }
-            }
-
-            possibleValues = newPossibleValues;
-
-            lastLocation = location;
-        }
-
-        if (lastLocation != null && lastLocation.getEnd() < value.length()) {
-            final Converter.State.Location location = lastLocation;
-            possibleValues = possibleValues.stream()
-                    .map(s -> s + value.substring(location.getEnd()))
-                    .collect(Collectors.toList());
-        }
-
-        return new LinkedHashSet<>(possibleValues);
+        Set<String> possibleValues = new LinkedHashSet<>();
+        getPossibleValues(value, state).forEach(possibleValues::add);
+        return possibleValues;
     }
 }
@@ -7,11 +7,22 @@
 
 package com.salesforce.slds.tokens.configuration;
 
+import com.salesforce.slds.tokens.registry.RegistrySnapshot;
+import com.salesforce.slds.tokens.registry.SnapshotTokenRegistry;
+import com.salesforce.slds.tokens.registry.TokenRegistry;
 import com.salesforce.slds.tokens.registry.TokenRegistryImpl;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Lazy;
 
 @Configuration
-@Import({TokenRegistryImpl.class})
 public class TokensConfiguration {
+
+    @Bean
+    @Lazy
+    public TokenRegistry tokenRegistry() {
+        return RegistrySnapshot.open()
+                .<TokenRegistry>map(SnapshotTokenRegistry::new)
+                .orElseGet(TokenRegistryImpl::new);
+    }
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.tokens.registry;
+
+import com.salesforce.slds.tokens.models.ComponentBlueprint;
+import com.salesforce.slds.tokens.models.DesignToken;
+import com.salesforce.slds.tokens.models.UtilityClass;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Derives the {@link TokenRegistry} lookups from the three raw SLDS collections,
+ * leaving it to subclasses to decide how those collections are loaded.
+ *
+ * The collections are loaded in parallel by {@link #warmUp()} and published together as a
+ * single immutable {@link Data} instance; lookups made before then wait for it.
+ */
+public abstract class BaseTokenRegistry implements TokenRegistry {
+
+    private static final int WARM_UP_THREADS = 3;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final CompletableFuture<Data> data = new CompletableFuture<>();
+
+    protected abstract Set<ComponentBlueprint> loadComponents();
+
+    protected abstract List<UtilityClass> loadUtilityClasses();
+
+    protected abstract Map<String, DesignToken> loadDesignTokens();
+
+    protected Set<String> loadValidUtilityClasses(Set<ComponentBlueprint> components, List<UtilityClass> utilityClasses) {
+        return collectValidUtilityClasses(components, utilityClasses);
+    }
+
+    @Override
+    public CompletableFuture<TokenRegistry> warmUp() {
+        if (started.compareAndSet(false, true)) {
+            ExecutorService executor = Executors.newFixedThreadPool(WARM_UP_THREADS, new WarmUpThreadFactory());
+
+            CompletableFuture<Set<ComponentBlueprint>> components =
+                    CompletableFuture.supplyAsync(this::loadComponents, executor);
+            CompletableFuture<List<UtilityClass>> utilityClasses =
+                    CompletableFuture.supplyAsync(this::loadUtilityClasses, executor);
+            CompletableFuture<Map<String, DesignToken>> tokens =
+                    CompletableFuture.supplyAsync(this::loadDesignTokens, executor);
+
+            CompletableFuture.allOf(components, utilityClasses, tokens)
+                    .thenApplyAsync(ignored -> new Data(components.join(), utilityClasses.join(), tokens.join(),
+                            loadValidUtilityClasses(components.join(), utilityClasses.join())), executor)
+                    .whenComplete((result, error) -> {
+                        executor.shutdown();
+
+                        if (error != null) {
+                            data.completeExceptionally(error);
+                        } else {
+                            data.complete(result);
+                        }
+                    });
+        }
+
+        return data.thenApply(ignored -> this);
+    }
+
+    protected boolean isReady() {
+        return data.isDone() && data.isCompletedExceptionally() == false;
+    }
+
+    protected Set<ComponentBlueprint> getComponentsInternal() {
+        return data().components;
+    }
+
+    public List<UtilityClass> getUtilityClassesInternal() {
+        return data().utilityClasses;
+    }
+
+    public Map<String, DesignToken> getDesignTokensInternal() {
+        return data().tokens;
+    }
+
+    @Override
+    public Set<ComponentBlueprint> getComponentBlueprints() {
+        return getComponentsInternal();
+    }
+
+    @Override
+    public Set<String> getValidUtilityClasses() {
+        return data().validUtilityClasses;
+    }
+
+    @Override
+    public Optional<ComponentBlueprint> getComponentBlueprint(String component) {
+        return Optional.ofNullable(data().componentsById.get(component));
+    }
+
+    @Override
+    public Optional<DesignToken> getDesignToken(String key) {
+        DesignToken designToken = getDesignTokensInternal().get(key);
+        return Optional.ofNullable(designToken);
+    }
+
+    @Override
+    public List<DesignToken> getDesignTokensFromCategory(String category) {
+        return new ArrayList<>(data().globalIndex.getDesignTokensFromCategory(category));
+    }
+
+    @Override
+    public List<DesignToken> getDesignTokensFromProperty(String property) {
+        return data().index.getDesignTokensFromProperty(property);
+    }
+
+    @Override
+    public List<DesignToken> getDesignTokensFromValue(String value) {
+        return data().index.getDesignTokensFromValue(value);
+    }
+
+    @Override
+    public Set<String> getDesignTokenCategories() {
+        return new TreeSet<>(data().index.getCategories());
+    }
+
+    @Override
+    public List<UtilityClass> getUtilityClasses() {
+        return getUtilityClassesInternal();
+    }
+
+    @Override
+    public List<DesignToken> getDesignTokens() {
+        return new ArrayList<>(getDesignTokensInternal().values());
+    }
+
+    private Data data() {
+        warmUp();
+        return data.join();
+    }
+
+    static Set<String> collectValidUtilityClasses(Collection<ComponentBlueprint> components,
+                                                  Collection<UtilityClass> utilityClasses) {
+        Set<String> validUtilityClasses = new HashSet<>();
+
+        components.forEach(componentBlueprint -> {
+            componentBlueprint.getSelectors().forEach(selector ->
+                    collectValidUtilityClasses(selector, validUtilityClasses));
+
+            componentBlueprint.getTokens().forEach((name, componentDesignToken) -> {
+                componentDesignToken.getCssSelectors().forEach(selector ->
+                        collectValidUtilityClasses(selector, validUtilityClasses));
+            });
+        });
+
+        collectValidUtilityClasses(utilityClasses, validUtilityClasses);
+
+        return validUtilityClasses;
+    }
+
+    static void collectValidUtilityClasses(Collection<UtilityClass> utilityClasses, Set<String> validUtilityClasses) {
+        utilityClasses.stream()
+                .map(utilityClass -> Arrays.asList(utilityClass.getName().split(" ")))
+                .flatMap(List::stream)
+                .forEach(s ->
+                        collectValidUtilityClasses(s.trim(), validUtilityClasses)
+                );
+    }
+
+    static void collectValidUtilityClasses(String tokens, Set<String> validUtilityClasses) {
+        Matcher matcher = SLDSPattern.matcher(tokens);
+
+        while(matcher.find()) {
+            validUtilityClasses.add(matcher.group());
+        }
+    }
+
+    private static final String SLDS = "slds-[^\\s,\\[:\\]\\.\";]*";
+    private static final Pattern SLDSPattern = Pattern.compile(SLDS);
+
+    /**
+     * Everything the lookups need, built once and never modified afterwards.
+     */
+    private static final class Data {
+        private final Set<ComponentBlueprint> components;
+        private final List<UtilityClass> utilityClasses;
+        private final Map<String, DesignToken> tokens;
+        private final Set<String> validUtilityClasses;
+
+        private final Map<String, ComponentBlueprint> componentsById;
+        private final TokenIndex index;
+        private final TokenIndex globalIndex;
+
+        Data(Set<ComponentBlueprint> components, List<UtilityClass> utilityClasses,
+             Map<String, DesignToken> tokens, Set<String> validUtilityClasses) {
+            this.components = Collections.unmodifiableSet(components);
+            this.utilityClasses = Collections.unmodifiableList(utilityClasses);
+            this.tokens = Collections.unmodifiableMap(tokens);
+            this.validUtilityClasses = Collections.unmodifiableSet(validUtilityClasses);
+
+            Map<String, ComponentBlueprint> componentsById = new HashMap<>();
+            components.forEach(blueprint -> componentsById.putIfAbsent(blueprint.getId(), blueprint));
+            this.componentsById = Collections.unmodifiableMap(componentsById);
+
+            this.index = TokenIndex.of(tokens.values());
+            this.globalIndex = TokenIndex.of(tokens.values().stream()
+                    .filter(token -> token.getScope() == null || token.getScope().contentEquals("global"))
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    private static class WarmUpThreadFactory implements ThreadFactory {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "token-registry-warm-up");
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
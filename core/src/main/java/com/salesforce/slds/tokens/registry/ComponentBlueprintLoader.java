@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.tokens.registry;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.salesforce.slds.tokens.models.ComponentBlueprint;
+import com.salesforce.slds.tokens.models.ComponentDesignToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * Streams {@code components.json}, keeping only what the validators read: the blueprint id,
+ * its selectors and the CSS selectors of its tokens. Descriptions, annotations, doc paths,
+ * restrictees and the remaining token fields are skipped without being materialized.
+ *
+ * The SLDS classes referenced by those selectors are collected while parsing, so the valid
+ * utility class set does not need a second pass over the blueprints.
+ */
+public class ComponentBlueprintLoader {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final Set<ComponentBlueprint> components = new HashSet<>();
+    private final Set<String> validUtilityClasses = new HashSet<>();
+
+    public ComponentBlueprintLoader load(InputStream stream) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(stream)) {
+            expect(parser.nextToken(), JsonToken.START_ARRAY);
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                components.add(readBlueprint(parser));
+            }
+        }
+
+        return this;
+    }
+
+    public Set<ComponentBlueprint> getComponents() {
+        return components;
+    }
+
+    public Set<String> getValidUtilityClasses() {
+        return validUtilityClasses;
+    }
+
+    private ComponentBlueprint readBlueprint(JsonParser parser) throws IOException {
+        ComponentBlueprint blueprint = new ComponentBlueprint();
+        blueprint.setSelectors(new ArrayList<>());
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            switch (field) {
+                case "id":
+                    blueprint.setId(parser.getValueAsString());
+                    break;
+                case "selectors":
+                    blueprint.setSelectors(readSelectors(parser, value));
+                    break;
+                case "tokens":
+                    blueprint.setTokens(readTokens(parser, value));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        return blueprint;
+    }
+
+    private Map<String, ComponentDesignToken> readTokens(JsonParser parser, JsonToken value) throws IOException {
+        Map<String, ComponentDesignToken> tokens = new LinkedHashMap<>();
+
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return tokens;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+
+            ComponentDesignToken token = new ComponentDesignToken();
+            token.setCssSelectors(new ArrayList<>());
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken fieldValue = parser.nextToken();
+
+                if (field.contentEquals("cssSelectors")) {
+                    token.setCssSelectors(readSelectors(parser, fieldValue));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            tokens.put(name, token);
+        }
+
+        return tokens;
+    }
+
+    private List<String> readSelectors(JsonParser parser, JsonToken value) throws IOException {
+        List<String> selectors = new ArrayList<>();
+
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return selectors;
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String selector = parser.getValueAsString();
+            selectors.add(selector);
+            BaseTokenRegistry.collectValidUtilityClasses(selector, validUtilityClasses);
+        }
+
+        return selectors;
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Expected " + expected + " but found " + actual);
+        }
+    }
+}
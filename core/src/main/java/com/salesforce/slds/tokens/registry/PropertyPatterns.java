@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.tokens.registry;
+
+import java.util.*;
+
+/**
+ * Values keyed by CSS property patterns, where {@code *} stands for any run of characters, as
+ * in {@code border*radius}. Exact names are looked up in a hash map. Patterns hang off a trie
+ * of their literal prefix, so a lookup only tries the patterns whose prefix the property
+ * starts with, without compiling or running a regular expression.
+ */
+public class PropertyPatterns<T> {
+
+    private static final char WILDCARD = '*';
+
+    private final Map<String, List<Match<T>>> exact = new HashMap<>();
+    private final Node<T> root = new Node<>();
+
+    private int size = 0;
+
+    public void add(String pattern, T value) {
+        Match<T> match = new Match<>(size++, pattern, value);
+        int wildcard = pattern.indexOf(WILDCARD);
+
+        if (wildcard == -1) {
+            exact.computeIfAbsent(pattern, key -> new ArrayList<>()).add(match);
+            return;
+        }
+
+        Node<T> node = root;
+        for (int i = 0; i < wildcard; i++) {
+            node = node.children.computeIfAbsent(pattern.charAt(i), key -> new Node<>());
+        }
+
+        node.patterns.add(match);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Values of every pattern matching the property, in the order they were added.
+     */
+    public List<T> get(String property) {
+        List<Match<T>> matches = new ArrayList<>(exact.getOrDefault(property, Collections.emptyList()));
+
+        Node<T> node = root;
+        for (int i = 0; node != null; i++) {
+            for (Match<T> match : node.patterns) {
+                if (matches(match.pattern, i, property, i)) {
+                    matches.add(match);
+                }
+            }
+
+            node = i < property.length() ? node.children.get(property.charAt(i)) : null;
+        }
+
+        if (matches.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        matches.sort(Comparator.comparingInt(match -> match.order));
+
+        List<T> values = new ArrayList<>(matches.size());
+        for (Match<T> match : matches) {
+            values.add(match.value);
+        }
+
+        return values;
+    }
+
+    public boolean matches(String property) {
+        if (exact.containsKey(property)) {
+            return true;
+        }
+
+        Node<T> node = root;
+        for (int i = 0; node != null; i++) {
+            for (Match<T> match : node.patterns) {
+                if (matches(match.pattern, i, property, i)) {
+                    return true;
+                }
+            }
+
+            node = i < property.length() ? node.children.get(property.charAt(i)) : null;
+        }
+
+        return false;
+    }
+
+    /**
+     * Whether the whole property matches the pattern.
+     */
+    public static boolean matches(String pattern, String property) {
+        return matches(pattern, 0, property, 0);
+    }
+
+    /**
+     * Glob match of the pattern from p against the property from s, backtracking only to the
+     * last wildcard seen.
+     */
+    private static boolean matches(String pattern, int p, String property, int s) {
+        int wildcard = -1;
+        int resume = 0;
+
+        while (s < property.length()) {
+            if (p < pattern.length() && pattern.charAt(p) == WILDCARD) {
+                wildcard = p++;
+                resume = s;
+            } else if (p < pattern.length() && pattern.charAt(p) == property.charAt(s)) {
+                p++;
+                s++;
+            } else if (wildcard != -1) {
+                p = wildcard + 1;
+                s = ++resume;
+            } else {
+                return false;
+            }
+        }
+
+        while (p < pattern.length() && pattern.charAt(p) == WILDCARD) {
+            p++;
+        }
+
+        return p == pattern.length();
+    }
+
+    private static final class Node<T> {
+        private final Map<Character, Node<T>> children = new HashMap<>();
+        private final List<Match<T>> patterns = new ArrayList<>();
+    }
+
+    private static final class Match<T> {
+        private final int order;
+        private final String pattern;
+        private final T value;
+
+        Match(int order, String pattern, T value) {
+            this.order = order;
+            this.pattern = pattern;
+            this.value = value;
+        }
+    }
+}
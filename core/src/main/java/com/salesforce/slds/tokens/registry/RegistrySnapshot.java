@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.tokens.registry;
+
+import com.salesforce.slds.tokens.models.*;
+import org.springframework.util.StreamUtils;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Read-only view over the binary registry snapshot written by {@link RegistrySnapshotWriter}.
+ * The file is memory mapped when it lives on the file system; strings and records are only
+ * decoded when they are first requested.
+ */
+public class RegistrySnapshot {
+
+    static final String LOCATION = "/tokens/slds/registry.snapshot";
+
+    static final int MAGIC = 0x534C4453;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 7 * Integer.BYTES;
+    static final int NULL = -1;
+
+    private final ByteBuffer buffer;
+
+    private final int stringCount;
+    private final int stringOffsets;
+    private final int stringData;
+    private final String[] strings;
+
+    private final int tokensOffset;
+    private final int utilitiesOffset;
+    private final int componentsOffset;
+    private final int validClassesOffset;
+
+    RegistrySnapshot(ByteBuffer buffer) {
+        this.buffer = buffer;
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalStateException("Unsupported registry snapshot");
+        }
+
+        int stringsOffset = buffer.getInt(2 * Integer.BYTES);
+        this.tokensOffset = buffer.getInt(3 * Integer.BYTES);
+        this.utilitiesOffset = buffer.getInt(4 * Integer.BYTES);
+        this.componentsOffset = buffer.getInt(5 * Integer.BYTES);
+        this.validClassesOffset = buffer.getInt(6 * Integer.BYTES);
+
+        this.stringCount = buffer.getInt(stringsOffset);
+        this.stringOffsets = stringsOffset + Integer.BYTES;
+        this.stringData = stringOffsets + Integer.BYTES * (stringCount + 1);
+        this.strings = new String[stringCount];
+    }
+
+    public static Optional<RegistrySnapshot> open() {
+        URL resource = RegistrySnapshot.class.getResource(LOCATION);
+
+        if (resource == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new RegistrySnapshot(load(resource)));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return Optional.empty();
+        }
+    }
+
+    private static ByteBuffer load(URL resource) throws Exception {
+        if ("file".equals(resource.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Paths.get(resource.toURI()), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+
+        try (InputStream stream = resource.openStream()) {
+            return ByteBuffer.wrap(StreamUtils.copyToByteArray(stream));
+        }
+    }
+
+    public int getDesignTokenCount() {
+        return buffer.getInt(tokensOffset);
+    }
+
+    public int getUtilityClassCount() {
+        return buffer.getInt(utilitiesOffset);
+    }
+
+    public int getComponentCount() {
+        return buffer.getInt(componentsOffset);
+    }
+
+    /**
+     * Key of the design token at the given index, read without decoding the rest of the record.
+     */
+    public String getDesignTokenKey(int index) {
+        return string(buffer.getInt(record(tokensOffset, index)));
+    }
+
+    /**
+     * Id of the component blueprint at the given index, read without decoding the rest of the record.
+     */
+    public String getComponentId(int index) {
+        return string(buffer.getInt(record(componentsOffset, index)));
+    }
+
+    public DesignToken getDesignToken(int index) {
+        Cursor cursor = new Cursor(record(tokensOffset, index));
+        cursor.skip();
+
+        DesignToken token = new DesignToken();
+        token.setName(cursor.string());
+        token.setComment(cursor.string());
+        token.setValue(cursor.string());
+        token.setCategory(cursor.string());
+        token.setType(cursor.string());
+        token.setSpecificity(cursor.string());
+        token.setScope(cursor.string());
+        token.setRelease(cursor.string());
+
+        String status = cursor.string();
+        token.setStatus(status == null ? null : TokenStatus.fromValue(status));
+        token.setTokenType(TokenType.fromValue(cursor.string()));
+        token.setTokenPriority(TokenPriority.fromValue(cursor.string()));
+
+        token.setSassToken(cursor.string());
+        token.setYamlToken(cursor.string());
+        token.setDeprecated(cursor.string());
+        token.setCssProperties(cursor.strings());
+
+        return token;
+    }
+
+    public UtilityClass getUtilityClass(int index) {
+        Cursor cursor = new Cursor(record(utilitiesOffset, index));
+
+        UtilityClass utilityClass = new UtilityClass();
+        utilityClass.setName(cursor.string());
+
+        int count = cursor.integer();
+        if (count != NULL) {
+            List<UtilityClass.Setting> settings = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                UtilityClass.Setting setting = new UtilityClass.Setting();
+                setting.setProperty(cursor.string());
+                setting.setValue(cursor.string());
+                settings.add(setting);
+            }
+            utilityClass.setSettings(settings);
+        }
+
+        return utilityClass;
+    }
+
+    public ComponentBlueprint getComponentBlueprint(int index) {
+        return blueprint(new Cursor(record(componentsOffset, index)));
+    }
+
+    public Set<String> getValidUtilityClasses() {
+        return new HashSet<>(new Cursor(validClassesOffset).strings());
+    }
+
+    private ComponentBlueprint blueprint(Cursor cursor) {
+        ComponentBlueprint blueprint = new ComponentBlueprint();
+        blueprint.setId(cursor.string());
+        blueprint.setDescription(cursor.string());
+        blueprint.setDocPath(cursor.string());
+        blueprint.setAnnotations(cursor.map());
+        blueprint.setSelectors(cursor.strings());
+
+        int tokenCount = cursor.integer();
+        Map<String, ComponentDesignToken> tokens = new LinkedHashMap<>();
+        for (int i = 0; i < tokenCount; i++) {
+            String key = cursor.string();
+
+            ComponentDesignToken token = new ComponentDesignToken();
+            token.setAuraTokenName(cursor.string());
+            token.setCssProperties(cursor.strings());
+            token.setCssSelectors(cursor.strings());
+            token.setSassTokenName(cursor.string());
+            token.setValue(cursor.string());
+            token.setYamlTokenName(cursor.string());
+            token.setScope(cursor.string());
+
+            tokens.put(key, token);
+        }
+        blueprint.setTokens(tokens);
+
+        int restricteeCount = cursor.integer();
+        if (restricteeCount != NULL) {
+            List<ComponentBlueprint> restrictees = new ArrayList<>(restricteeCount);
+            for (int i = 0; i < restricteeCount; i++) {
+                restrictees.add(blueprint(cursor));
+            }
+            blueprint.setRestrictees(restrictees);
+        }
+
+        return blueprint;
+    }
+
+    private int record(int tableOffset, int index) {
+        return buffer.getInt(tableOffset + Integer.BYTES * (index + 1));
+    }
+
+    private String string(int index) {
+        if (index == NULL) {
+            return null;
+        }
+
+        String value = strings[index];
+
+        if (value == null) {
+            int start = buffer.getInt(stringOffsets + Integer.BYTES * index);
+            int end = buffer.getInt(stringOffsets + Integer.BYTES * (index + 1));
+
+            byte[] bytes = new byte[end - start];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = buffer.get(stringData + start + i);
+            }
+
+            value = new String(bytes, StandardCharsets.UTF_8);
+            strings[index] = value;
+        }
+
+        return value;
+    }
+
+    private class Cursor {
+        private int position;
+
+        Cursor(int position) {
+            this.position = position;
+        }
+
+        int integer() {
+            int value = buffer.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        void skip() {
+            position += Integer.BYTES;
+        }
+
+        String string() {
+            return RegistrySnapshot.this.string(integer());
+        }
+
+        List<String> strings() {
+            int count = integer();
+            if (count == NULL) {
+                return null;
+            }
+
+            List<String> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(string());
+            }
+            return values;
+        }
+
+        Map<String, String> map() {
+            int count = integer();
+            if (count == NULL) {
+                return null;
+            }
+
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                values.put(string(), string());
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.tokens.registry;
+
+import com.salesforce.slds.tokens.models.ComponentBlueprint;
+import com.salesforce.slds.tokens.models.ComponentDesignToken;
+import com.salesforce.slds.tokens.models.DesignToken;
+import com.salesforce.slds.tokens.models.UtilityClass;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Build-time compiler for {@link RegistrySnapshot}. Invoked by the core module's
+ * {@code process-classes} phase with the class output directory as its only argument;
+ * it reads the JSON resources through {@link TokenRegistryImpl} and writes the binary
+ * snapshot next to them.
+ */
+public class RegistrySnapshotWriter {
+
+    private final List<String> strings = new ArrayList<>();
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: RegistrySnapshotWriter <output directory>");
+        }
+
+        TokenRegistryImpl registry = new TokenRegistryImpl();
+        registry.afterPropertiesSet();
+
+        Path output = Paths.get(args[0], RegistrySnapshot.LOCATION.substring(1));
+        Files.createDirectories(output.getParent());
+
+        try (OutputStream out = Files.newOutputStream(output)) {
+            new RegistrySnapshotWriter().write(registry, out);
+        }
+    }
+
+    public void write(BaseTokenRegistry registry, OutputStream out) throws IOException {
+        List<byte[]> tokens = new ArrayList<>();
+        for (Map.Entry<String, DesignToken> entry : registry.getDesignTokensInternal().entrySet()) {
+            tokens.add(encode(entry.getKey(), entry.getValue()));
+        }
+
+        List<byte[]> utilities = new ArrayList<>();
+        for (UtilityClass utilityClass : registry.getUtilityClassesInternal()) {
+            utilities.add(encode(utilityClass));
+        }
+
+        List<byte[]> components = new ArrayList<>();
+        for (ComponentBlueprint blueprint : registry.getComponentsInternal()) {
+            components.add(encode(blueprint));
+        }
+
+        List<String> validClasses = new ArrayList<>(registry.getValidUtilityClasses());
+        Collections.sort(validClasses);
+        Record valid = new Record();
+        valid.strings(validClasses);
+
+        byte[] stringSection = encodeStrings();
+        int stringsOffset = RegistrySnapshot.HEADER_SIZE;
+        int tokensOffset = stringsOffset + stringSection.length;
+        int utilitiesOffset = tokensOffset + tableSize(tokens);
+        int componentsOffset = utilitiesOffset + tableSize(utilities);
+        int validClassesOffset = componentsOffset + tableSize(components);
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(RegistrySnapshot.MAGIC);
+        data.writeInt(RegistrySnapshot.VERSION);
+        data.writeInt(stringsOffset);
+        data.writeInt(tokensOffset);
+        data.writeInt(utilitiesOffset);
+        data.writeInt(componentsOffset);
+        data.writeInt(validClassesOffset);
+        data.write(stringSection);
+        writeTable(data, tokensOffset, tokens);
+        writeTable(data, utilitiesOffset, utilities);
+        writeTable(data, componentsOffset, components);
+        data.write(valid.toByteArray());
+        data.flush();
+    }
+
+    private byte[] encode(String key, DesignToken token) throws IOException {
+        Record record = new Record();
+        record.string(key);
+        record.string(token.getName());
+        record.string(token.getComment());
+        record.string(token.getValue());
+        record.string(token.getCategory());
+        record.string(token.getType());
+        record.string(token.getSpecificity());
+        record.string(token.getScope());
+        record.string(token.getRelease());
+        record.string(token.getStatus() == null ? null : token.getStatus().value());
+        record.string(token.getTokenType().value());
+        record.string(token.getTokenPriority().value());
+        record.string(token.getSassToken());
+        record.string(token.getYamlToken());
+        record.string(token.getDeprecated());
+        record.strings(token.getCssProperties());
+        return record.toByteArray();
+    }
+
+    private byte[] encode(UtilityClass utilityClass) throws IOException {
+        Record record = new Record();
+        record.string(utilityClass.getName());
+
+        List<UtilityClass.Setting> settings = utilityClass.getSettings();
+        record.count(settings);
+        if (settings != null) {
+            for (UtilityClass.Setting setting : settings) {
+                record.string(setting.getProperty());
+                record.string(setting.getValue());
+            }
+        }
+
+        return record.toByteArray();
+    }
+
+    private byte[] encode(ComponentBlueprint blueprint) throws IOException {
+        Record record = new Record();
+        encode(record, blueprint);
+        return record.toByteArray();
+    }
+
+    private void encode(Record record, ComponentBlueprint blueprint) throws IOException {
+        record.string(blueprint.getId());
+        record.string(blueprint.getDescription());
+        record.string(blueprint.getDocPath() == null ? null : blueprint.getDocPath().toString());
+        record.strings(blueprint.getAnnotations());
+        record.strings(blueprint.getSelectors());
+
+        Map<String, ComponentDesignToken> tokens = blueprint.getTokens();
+        record.count(tokens.keySet());
+        for (Map.Entry<String, ComponentDesignToken> entry : tokens.entrySet()) {
+            ComponentDesignToken token = entry.getValue();
+            record.string(entry.getKey());
+            record.string(token.getAuraTokenName());
+            record.strings(token.getCssProperties());
+            record.strings(token.getCssSelectors());
+            record.string(token.getSassTokenName());
+            record.string(token.getValue());
+            record.string(token.getYamlTokenName());
+            record.string(token.getScope());
+        }
+
+        List<ComponentBlueprint> restrictees = blueprint.getRestrictees();
+        record.count(restrictees);
+        if (restrictees != null) {
+            for (ComponentBlueprint restrictee : restrictees) {
+                encode(record, restrictee);
+            }
+        }
+    }
+
+    private int intern(String value) {
+        if (value == null) {
+            return RegistrySnapshot.NULL;
+        }
+
+        Integer index = stringIndexes.get(value);
+        if (index == null) {
+            index = strings.size();
+            strings.add(value);
+            stringIndexes.put(value, index);
+        }
+
+        return index;
+    }
+
+    private byte[] encodeStrings() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int[] offsets = new int[strings.size() + 1];
+
+        for (int index = 0; index < strings.size(); index++) {
+            offsets[index] = bytes.size();
+            bytes.write(strings.get(index).getBytes(StandardCharsets.UTF_8));
+        }
+        offsets[strings.size()] = bytes.size();
+
+        ByteArrayOutputStream section = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(section);
+        data.writeInt(strings.size());
+        for (int offset : offsets) {
+            data.writeInt(offset);
+        }
+        bytes.writeTo(data);
+        data.flush();
+
+        return section.toByteArray();
+    }
+
+    private static int tableSize(List<byte[]> records) {
+        int size = Integer.BYTES * (records.size() + 1);
+        for (byte[] record : records) {
+            size += record.length;
+        }
+        return size;
+    }
+
+    private static void writeTable(DataOutputStream data, int tableOffset, List<byte[]> records) throws IOException {
+        data.writeInt(records.size());
+
+        int offset = tableOffset + Integer.BYTES * (records.size() + 1);
+        for (byte[] record : records) {
+            data.writeInt(offset);
+            offset += record.length;
+        }
+
+        for (byte[] record : records) {
+            data.write(record);
+        }
+    }
+
+    /**
+     * Flat, int-encoded record. Strings are written as string table indexes and
+     * collections as a count followed by their elements; {@link RegistrySnapshot#NULL}
+     * marks a missing value or collection.
+     */
+    private class Record {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream data = new DataOutputStream(bytes);
+
+        void string(String value) throws IOException {
+            data.writeInt(intern(value));
+        }
+
+        void count(Collection<?> values) throws IOException {
+            data.writeInt(values == null ? RegistrySnapshot.NULL : values.size());
+        }
+
+        void strings(List<String> values) throws IOException {
+            count(values);
+            if (values != null) {
+                for (String value : values) {
+                    string(value);
+                }
+            }
+        }
+
+        void strings(Map<String, String> values) throws IOException {
+            count(values == null ? null : values.keySet());
+            if (values != null) {
+                for (Map.Entry<String, String> entry : values.entrySet()) {
+                    string(entry.getKey());
+                    string(entry.getValue());
+                }
+            }
+        }
+
+        byte[] toByteArray() throws IOException {
+            data.flush();
+            return bytes.toByteArray();
+        }
+    }
+}
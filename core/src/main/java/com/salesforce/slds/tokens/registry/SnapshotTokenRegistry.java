@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.tokens.registry;
+
+import com.salesforce.slds.tokens.models.ComponentBlueprint;
+import com.salesforce.slds.tokens.models.DesignToken;
+import com.salesforce.slds.tokens.models.UtilityClass;
+
+import java.util.*;
+
+/**
+ * {@link TokenRegistry} backed by a prebuilt {@link RegistrySnapshot}. Until warm-up has
+ * decoded the full collections, single token and blueprint lookups decode only the
+ * requested record instead of waiting for it.
+ */
+public class SnapshotTokenRegistry extends BaseTokenRegistry {
+
+    private final RegistrySnapshot snapshot;
+
+    private final Map<String, Integer> tokenIndexes;
+    private final Map<String, Integer> componentIndexes;
+
+    public SnapshotTokenRegistry(RegistrySnapshot snapshot) {
+        this.snapshot = snapshot;
+
+        this.tokenIndexes = new HashMap<>();
+        for (int index = 0; index < snapshot.getDesignTokenCount(); index++) {
+            tokenIndexes.put(snapshot.getDesignTokenKey(index), index);
+        }
+
+        this.componentIndexes = new HashMap<>();
+        for (int index = 0; index < snapshot.getComponentCount(); index++) {
+            componentIndexes.putIfAbsent(snapshot.getComponentId(index), index);
+        }
+    }
+
+    @Override
+    protected Set<ComponentBlueprint> loadComponents() {
+        Set<ComponentBlueprint> components = new HashSet<>();
+        for (int index = 0; index < snapshot.getComponentCount(); index++) {
+            components.add(snapshot.getComponentBlueprint(index));
+        }
+
+        return components;
+    }
+
+    @Override
+    protected List<UtilityClass> loadUtilityClasses() {
+        List<UtilityClass> utilityClasses = new ArrayList<>(snapshot.getUtilityClassCount());
+        for (int index = 0; index < snapshot.getUtilityClassCount(); index++) {
+            utilityClasses.add(snapshot.getUtilityClass(index));
+        }
+
+        return utilityClasses;
+    }
+
+    @Override
+    protected Map<String, DesignToken> loadDesignTokens() {
+        Map<String, DesignToken> tokens = new LinkedHashMap<>();
+        for (int index = 0; index < snapshot.getDesignTokenCount(); index++) {
+            tokens.put(snapshot.getDesignTokenKey(index), snapshot.getDesignToken(index));
+        }
+
+        return tokens;
+    }
+
+    @Override
+    protected Set<String> loadValidUtilityClasses(Set<ComponentBlueprint> components, List<UtilityClass> utilityClasses) {
+        return snapshot.getValidUtilityClasses();
+    }
+
+    @Override
+    public Optional<ComponentBlueprint> getComponentBlueprint(String component) {
+        if (isReady()) {
+            return super.getComponentBlueprint(component);
+        }
+
+        Integer index = componentIndexes.get(component);
+        return index == null ? Optional.empty() : Optional.of(snapshot.getComponentBlueprint(index));
+    }
+
+    @Override
+    public Optional<DesignToken> getDesignToken(String key) {
+        if (isReady()) {
+            return super.getDesignToken(key);
+        }
+
+        Integer index = tokenIndexes.get(key);
+        return index == null ? Optional.empty() : Optional.of(snapshot.getDesignToken(index));
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.tokens.registry;
+
+import com.salesforce.slds.tokens.models.DesignToken;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Immutable lookup tables over a fixed set of design tokens, keyed by category, CSS property
+ * and normalized value.
+ *
+ * CSS property patterns such as {@code border*radius} are expanded up front against every
+ * concrete property the tokens declare. Properties outside that vocabulary are resolved
+ * through {@link PropertyPatterns}, and remembered only when some token matches them, so
+ * custom properties and typos in the CSS being validated do not pile up.
+ */
+public class TokenIndex {
+
+    private static final String WILDCARD = "*";
+
+    private static final ValueFormIndex NO_FORMS = ValueFormIndex.of(Collections.emptyMap());
+
+    private final Map<String, List<DesignToken>> byCategory;
+    private final Map<String, List<DesignToken>> byProperty;
+    private final Map<String, List<DesignToken>> byValue;
+
+    private final PropertyPatterns<List<DesignToken>> byPattern = new PropertyPatterns<>();
+    private final ConcurrentMap<String, List<DesignToken>> resolved = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map<String, List<DesignToken>>> valuesByProperty = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ValueFormIndex> formsByProperty = new ConcurrentHashMap<>();
+
+    private TokenIndex(Collection<DesignToken> tokens) {
+        Map<String, List<DesignToken>> byCategory = new LinkedHashMap<>();
+        Map<String, List<DesignToken>> exact = new HashMap<>();
+        Map<String, List<DesignToken>> wildcards = new LinkedHashMap<>();
+        Map<String, List<DesignToken>> byValue = new HashMap<>();
+
+        for (DesignToken token : tokens) {
+            if (token.getCategory() != null) {
+                add(byCategory, token.getCategory(), token);
+            }
+
+            if (token.getValue() != null) {
+                add(byValue, normalize(token.getValue()), token);
+            }
+
+            for (String property : token.getCssProperties()) {
+                add(property.contains(WILDCARD) ? wildcards : exact, property, token);
+            }
+        }
+
+        wildcards.forEach(byPattern::add);
+
+        Map<String, List<DesignToken>> byProperty = new HashMap<>();
+        exact.keySet().forEach(property -> byProperty.put(property, expand(property, exact.get(property))));
+
+        this.byCategory = freeze(byCategory);
+        this.byProperty = Collections.unmodifiableMap(byProperty);
+        this.byValue = freeze(byValue);
+
+        byProperty.forEach((property, matches) -> valuesByProperty.put(property, groupByValue(matches)));
+    }
+
+    public static TokenIndex of(Collection<DesignToken> tokens) {
+        return new TokenIndex(tokens);
+    }
+
+    public List<DesignToken> getDesignTokensFromCategory(String category) {
+        return byCategory.getOrDefault(category, Collections.emptyList());
+    }
+
+    public Set<String> getCategories() {
+        return byCategory.keySet();
+    }
+
+    /**
+     * Tokens declaring a CSS property that matches the given one, either exactly or through a
+     * wildcard pattern.
+     */
+    public List<DesignToken> getDesignTokensFromProperty(String property) {
+        List<DesignToken> tokens = byProperty.get(property);
+
+        if (tokens == null) {
+            tokens = resolved.get(property);
+        }
+
+        if (tokens == null) {
+            tokens = expand(property, Collections.emptyList());
+
+            if (tokens.isEmpty() == false) {
+                resolved.putIfAbsent(property, tokens);
+            }
+        }
+
+        return tokens;
+    }
+
+    /**
+     * Tokens matching the given CSS property, keyed by their exact value. This is the reverse
+     * of expanding a declaration into its equivalent spellings: each spelling costs one lookup.
+     */
+    public Map<String, List<DesignToken>> getDesignTokensByValue(String property) {
+        Map<String, List<DesignToken>> tokens = valuesByProperty.get(property);
+
+        if (tokens == null) {
+            List<DesignToken> matches = getDesignTokensFromProperty(property);
+
+            if (matches.isEmpty()) {
+                return Collections.emptyMap();
+            }
+
+            tokens = valuesByProperty.computeIfAbsent(property, key -> groupByValue(matches));
+        }
+
+        return tokens;
+    }
+
+    /**
+     * Tokens matching the given CSS property, keyed by the canonical form of their value so
+     * equivalent colours and lengths are found whatever their spelling. Built on first use.
+     */
+    public ValueFormIndex getDesignTokensByValueForm(String property) {
+        ValueFormIndex forms = formsByProperty.get(property);
+
+        if (forms == null) {
+            Map<String, List<DesignToken>> tokens = getDesignTokensByValue(property);
+
+            if (tokens.isEmpty()) {
+                return NO_FORMS;
+            }
+
+            forms = formsByProperty.computeIfAbsent(property, key -> ValueFormIndex.of(tokens));
+        }
+
+        return forms;
+    }
+
+    public List<DesignToken> getDesignTokensFromValue(String value) {
+        return value == null ? Collections.emptyList() :
+                byValue.getOrDefault(normalize(value), Collections.emptyList());
+    }
+
+    public static String normalize(String value) {
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private List<DesignToken> expand(String property, List<DesignToken> exact) {
+        Set<DesignToken> tokens = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<DesignToken> result = new ArrayList<>();
+
+        for (DesignToken token : exact) {
+            if (tokens.add(token)) {
+                result.add(token);
+            }
+        }
+
+        for (List<DesignToken> matches : byPattern.get(property)) {
+            for (DesignToken token : matches) {
+                if (tokens.add(token)) {
+                    result.add(token);
+                }
+            }
+        }
+
+        return result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+    }
+
+    private static Map<String, List<DesignToken>> groupByValue(List<DesignToken> tokens) {
+        Map<String, List<DesignToken>> byValue = new HashMap<>();
+
+        for (DesignToken token : tokens) {
+            if (token.getValue() != null) {
+                add(byValue, token.getValue(), token);
+            }
+        }
+
+        return freeze(byValue);
+    }
+
+    private static void add(Map<String, List<DesignToken>> index, String key, DesignToken token) {
+        index.computeIfAbsent(key, k -> new ArrayList<>()).add(token);
+    }
+
+    private static Map<String, List<DesignToken>> freeze(Map<String, List<DesignToken>> index) {
+        index.replaceAll((key, tokens) -> Collections.unmodifiableList(tokens));
+        return Collections.unmodifiableMap(index);
+    }
+}
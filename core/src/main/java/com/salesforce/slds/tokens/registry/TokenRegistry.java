@@ -14,6 +14,7 @@ import com.salesforce.slds.tokens.models.UtilityClass;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public interface TokenRegistry {
 
@@ -25,6 +26,10 @@ public interface TokenRegistry {
 
     List<DesignToken> getDesignTokensFromCategory(String category);
 
+    List<DesignToken> getDesignTokensFromProperty(String property);
+
+    List<DesignToken> getDesignTokensFromValue(String value);
+
     Set<String> getDesignTokenCategories();
 
     List<UtilityClass> getUtilityClasses();
@@ -33,4 +38,10 @@ public interface TokenRegistry {
 
     Set<String> getValidUtilityClasses();
 
+    /**
+     * Starts loading the registry in the background, if it has not been started yet.
+     * @return a future completed once the registry can answer lookups without blocking
+     */
+    CompletableFuture<TokenRegistry> warmUp();
+
 }
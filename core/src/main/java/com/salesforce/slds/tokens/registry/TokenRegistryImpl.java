@@ -22,92 +22,17 @@ import com.salesforce.slds.tokens.models.DesignToken;
 import com.salesforce.slds.tokens.models.TokenStatus;
 import com.salesforce.slds.tokens.models.UtilityClass;
 import org.springframework.beans.factory.InitializingBean;
-import org.springframework.context.annotation.Lazy;
-import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collector;
-import java.util.stream.Collectors;
 
-@Component
-@Lazy
-public class TokenRegistryImpl implements TokenRegistry, InitializingBean {
-
-    @Override
-    public Set<ComponentBlueprint> getComponentBlueprints() {
-        return getComponentsInternal();
-    }
-
-    @Override
-    public Set<String> getValidUtilityClasses() {
-        if (this.validUtilityClasses == null) {
-            this.validUtilityClasses = new HashSet<>();
-
-            getComponentBlueprints().stream()
-                    .forEach(componentBlueprint -> {
-                        componentBlueprint.getSelectors().forEach(selector ->
-                                validUtilityClasses.addAll(processTokens(selector)));
-
-                        componentBlueprint.getTokens().forEach((name, componentDesignToken) -> {
-                           componentDesignToken.getCssSelectors().forEach(selector ->
-                                   validUtilityClasses.addAll(processTokens(selector)));
-                        });
-                    });
-
-            getUtilityClasses().stream()
-                    .map(utilityClass -> Arrays.asList(utilityClass.getName().split(" ")))
-                    .flatMap(List::stream)
-                    .forEach(s ->
-                        validUtilityClasses.addAll(processTokens(s.trim()))
-                    );
-        }
-
-        return this.validUtilityClasses;
-    }
-
-    @Override
-    public Optional<ComponentBlueprint> getComponentBlueprint(String component) {
-        return getComponentsInternal().stream()
-                .filter(blueprint -> blueprint.getId().contentEquals(component))
-                .findAny();
-    }
-
-    @Override
-    public Optional<DesignToken> getDesignToken(String key) {
-        DesignToken designToken = getDesignTokensInternal().get(key);
-        return Optional.ofNullable(designToken);
-    }
-
-    @Override
-    public List<DesignToken> getDesignTokensFromCategory(String category) {
-        return getDesignTokensInternal().values().stream()
-                .filter(token -> token.getCategory().contentEquals(category))
-                .filter(token -> token.getScope() == null || token.getScope().contentEquals("global"))
-                .filter(token -> getComponentsInternal().contains(token.getName()) == false)
-                .collect(Collectors.toList());
-    }
-
-    @Override
-    public Set<String> getDesignTokenCategories() {
-        return getDesignTokensInternal().values().stream()
-                .map(token -> token.getCategory())
-                .collect(Collector.of(TreeSet::new, Set::add,
-                        (left, right) -> { left.addAll(right); return left; }));
-    }
-
-    @Override
-    public List<UtilityClass> getUtilityClasses() {
-        return getUtilityClassesInternal();
-    }
-
-    @Override
-    public List<DesignToken> getDesignTokens() {
-        return new ArrayList<>(getDesignTokensInternal().values());
-    }
+/**
+ * Loads the registry straight from the Jackson-parsed JSON resources. Used when no
+ * prebuilt {@link RegistrySnapshot} is available on the classpath, and by the build
+ * step that compiles that snapshot.
+ */
+public class TokenRegistryImpl extends BaseTokenRegistry implements InitializingBean {
 
     @Override
     public void afterPropertiesSet() throws Exception {
@@ -120,76 +45,52 @@ public class TokenRegistryImpl implements TokenRegistry, InitializingBean {
 
     private static final String BASE_LOCATION = "/tokens/slds";
 
-    private Set<ComponentBlueprint> components;
-    private Map<String, DesignToken> tokens;
-    private List<UtilityClass> utilityClasses;
-    private Set<String> validUtilityClasses;
     private ObjectMapper mapper = new ObjectMapper();
-    private static final String SLDS = "slds-[^\\s,\\[:\\]\\.\";]*";
-    private static final Pattern SLDSPattern = Pattern.compile(SLDS);
-
-    private Set<ComponentBlueprint> getComponentsInternal() {
-        if (this.components == null) {
-            try {
-                List<String> paths = ResourceUtilities.getResources(TokenRegistryImpl.class,BASE_LOCATION + "/components.json");
 
-                this.components = mapper.readValue(
-                        TokenRegistryImpl.class.getResourceAsStream(paths.get(0)),
-                        new TypeReference<Set<ComponentBlueprint>>(){});
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
+    /**
+     * SLDS classes referenced by the component selectors, collected while streaming components.json.
+     */
+    private Set<String> componentClasses;
 
+    @Override
+    protected Set<ComponentBlueprint> loadComponents() {
+        List<String> paths = ResourceUtilities.getResources(TokenRegistryImpl.class, BASE_LOCATION + "/components.json");
+
+        try (InputStream stream = TokenRegistryImpl.class.getResourceAsStream(paths.get(0))) {
+            ComponentBlueprintLoader loader = new ComponentBlueprintLoader().load(stream);
+            this.componentClasses = loader.getValidUtilityClasses();
+            return loader.getComponents();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
         }
-
-        return this.components;
     }
 
-    public List<UtilityClass> getUtilityClassesInternal() {
-        if (this.utilityClasses == null) {
-            try {
-                List<String> paths = ResourceUtilities.getResources(TokenRegistryImpl.class,BASE_LOCATION + "/utilities.json");
-
-                this.utilityClasses = mapper.readValue(
-                        TokenRegistryImpl.class.getResourceAsStream(paths.get(0)),
-                        new TypeReference<List<UtilityClass>>(){});
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        }
-
-        return this.utilityClasses;
+    @Override
+    protected List<UtilityClass> loadUtilityClasses() {
+        return read("/utilities.json", new TypeReference<List<UtilityClass>>(){});
     }
 
-
-    public Map<String, DesignToken> getDesignTokensInternal() {
-        if (this.tokens == null) {
-            try {
-                List<String> paths = ResourceUtilities.getResources(TokenRegistryImpl.class, BASE_LOCATION + "/tokens.json");
-
-                this.tokens = mapper.readValue(
-                        TokenRegistryImpl.class.getResourceAsStream(paths.get(0)),
-                        new TypeReference<Map<String, DesignToken>>(){});
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-
-        }
-
-        return this.tokens;
+    @Override
+    protected Map<String, DesignToken> loadDesignTokens() {
+        return read("/tokens.json", new TypeReference<Map<String, DesignToken>>(){});
     }
 
-    private Set<String> processTokens(String tokens) {
-        Set<String> possibleTokens = new HashSet<>();
+    @Override
+    protected Set<String> loadValidUtilityClasses(Set<ComponentBlueprint> components, List<UtilityClass> utilityClasses) {
+        Set<String> validUtilityClasses = new HashSet<>(this.componentClasses);
+        collectValidUtilityClasses(utilityClasses, validUtilityClasses);
+        return validUtilityClasses;
+    }
 
-        Matcher matcher = SLDSPattern.matcher(tokens);
+    private <T> T read(String name, TypeReference<T> type) {
+        try {
+            List<String> paths = ResourceUtilities.getResources(TokenRegistryImpl.class, BASE_LOCATION + name);
 
-        while(matcher.find()) {
-            possibleTokens.add(matcher.group());
+            return mapper.readValue(TokenRegistryImpl.class.getResourceAsStream(paths.get(0)), type);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
         }
-
-        return possibleTokens;
-     }
+    }
 
     private static class TokenStatusDeserializer extends StdDeserializer<TokenStatus> {
 
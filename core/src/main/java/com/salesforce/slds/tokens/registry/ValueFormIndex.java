@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.tokens.registry;
+
+import com.salesforce.slds.shared.converters.CanonicalValue;
+import com.salesforce.slds.shared.converters.Converter;
+import com.salesforce.slds.shared.converters.TypeConverters;
+import com.salesforce.slds.shared.converters.ValueForm;
+import com.salesforce.slds.tokens.models.DesignToken;
+
+import java.util.*;
+
+/**
+ * Design tokens keyed by the {@link ValueForm} of their value. Tokens sharing a shape are
+ * sorted by their first canonical value, so a lookup is a hash probe followed by a range
+ * search instead of comparing every spelling of the declaration against every token value.
+ */
+public class ValueFormIndex {
+
+    private static final TypeConverters CONVERTERS = new TypeConverters();
+
+    private final Map<String, Entry[]> byShape;
+
+    private ValueFormIndex(Map<String, List<DesignToken>> tokensByValue) {
+        Map<String, List<Entry>> byShape = new HashMap<>();
+
+        tokensByValue.forEach((value, tokens) -> {
+            ValueForm form = ValueForm.of(CONVERTERS.process(Converter.State.builder().input(value).build()));
+
+            if (form != null) {
+                byShape.computeIfAbsent(form.getShape(), shape -> new ArrayList<>()).add(new Entry(form, tokens));
+            }
+        });
+
+        Map<String, Entry[]> sorted = new HashMap<>();
+        byShape.forEach((shape, entries) -> {
+            entries.sort(Comparator.comparingDouble(Entry::getSortKey));
+            sorted.put(shape, entries.toArray(new Entry[0]));
+        });
+
+        this.byShape = Collections.unmodifiableMap(sorted);
+    }
+
+    public static ValueFormIndex of(Map<String, List<DesignToken>> tokensByValue) {
+        return new ValueFormIndex(tokensByValue);
+    }
+
+    public boolean isEmpty() {
+        return byShape.isEmpty();
+    }
+
+    public List<DesignToken> find(ValueForm form) {
+        Entry[] entries = byShape.get(form.getShape());
+
+        if (entries == null) {
+            return Collections.emptyList();
+        }
+
+        List<DesignToken> tokens = new ArrayList<>();
+
+        if (form.getValues().isEmpty()) {
+            for (Entry entry : entries) {
+                tokens.addAll(entry.tokens);
+            }
+            return tokens;
+        }
+
+        CanonicalValue first = form.getValues().get(0);
+        double low = first.getSortKey() - first.getTolerance();
+        double high = first.getSortKey() + first.getTolerance();
+
+        for (int i = lowerBound(entries, low); i < entries.length && entries[i].getSortKey() <= high; i++) {
+            if (entries[i].form.matches(form)) {
+                tokens.addAll(entries[i].tokens);
+            }
+        }
+
+        return tokens;
+    }
+
+    private static int lowerBound(Entry[] entries, double key) {
+        int low = 0;
+        int high = entries.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (entries[middle].getSortKey() < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private static final class Entry {
+        private final ValueForm form;
+        private final List<DesignToken> tokens;
+
+        Entry(ValueForm form, List<DesignToken> tokens) {
+            this.form = form;
+            this.tokens = tokens;
+        }
+
+        double getSortKey() {
+            return form.getValues().isEmpty() ? 0 : form.getValues().get(0).getSortKey();
+        }
+    }
+}
@@ -10,11 +10,11 @@ package com.salesforce.slds.validation.configuration;
 import com.salesforce.slds.validation.aggregators.SimpleAggregator;
 import com.salesforce.slds.validation.processors.SortAndFilterProcessor;
 import com.salesforce.slds.validation.runners.ValidateRunner;
+import com.salesforce.slds.validation.runners.ValidationExecutor;
 import com.salesforce.slds.validation.utils.ActionUtilities;
 import com.salesforce.slds.validation.utils.CSSValidationUtilities;
 import com.salesforce.slds.validation.utils.JavascriptValidationUtilities;
 import com.salesforce.slds.validation.utils.MarkupValidationUtilities;
-import com.salesforce.slds.validation.validators.ValidatorFactories;
 import com.salesforce.slds.validation.validators.impl.override.ComponentOverrideValidator;
 import com.salesforce.slds.validation.validators.impl.recommendation.*;
 import com.salesforce.slds.validation.validators.impl.recommendation.DesignTokenValidator;
@@ -31,11 +31,12 @@ import org.springframework.context.annotation.Import;
         ActionUtilities.class, CSSValidationUtilities.class,
         JavascriptValidationUtilities.class, MarkupValidationUtilities.class,
         InvalidValidator.class, PriorityValidator.class,
-        UtilityClassValidator.class, ValidatorFactories.class,
-        ValidateRunner.class, ComponentOverrideValidator.class,
+        UtilityClassValidator.class, StyleValidator.class,
+        ValidateRunner.class, ValidationExecutor.class, ComponentOverrideValidator.class,
         HTMLElementUtilities.class, DesignTokenValidator.class,
         MobileSLDS_MarkupFriendlyValidator.class,
         MobileSLDS_MarkupLabelValidator.class,
+        MarkupValidator.class,
         MobileSLDS_CSSValidator.class
 })
 public class ValidationConfiguration {
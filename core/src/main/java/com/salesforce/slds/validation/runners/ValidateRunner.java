@@ -7,10 +7,12 @@
 
 package com.salesforce.slds.validation.runners;
 
+import com.google.common.collect.Lists;
 import com.salesforce.slds.shared.models.context.Context;
 import com.salesforce.slds.shared.models.context.ContextKey;
 import com.salesforce.slds.shared.models.override.ComponentOverride;
-import com.salesforce.slds.shared.parsers.css.CSSParser;
+import com.salesforce.slds.shared.parsers.ParseCache;
+import com.salesforce.slds.shared.parsers.css.IncrementalCSSParser;
 import com.salesforce.slds.shared.parsers.javascript.JavascriptParser;
 import com.salesforce.slds.shared.parsers.markup.MarkupParser;
 import com.salesforce.slds.shared.utils.EntryUtilities;
@@ -21,24 +23,42 @@ import com.salesforce.slds.validation.processors.Processor;
 import com.salesforce.slds.validation.validators.interfaces.OverrideValidator;
 import com.salesforce.slds.validation.validators.interfaces.RecommendationValidator;
 import com.salesforce.slds.validation.validators.interfaces.Validator;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 @Component
 @Scope("prototype")
 public class ValidateRunner implements Runnable {
 
+    private static final Log LOG = LogFactory.getLog(ValidateRunner.class);
+
+    // shared by every run, so edits to an open stylesheet only reparse the rules that changed
+    private static final IncrementalCSSParser CSS_PARSER = new IncrementalCSSParser();
+
+    // shared by every run, so files of a bundle that did not change are not parsed again
+    private static final ParseCache PARSE_CACHE = new ParseCache();
+
+    // rule sets per task for validators that can validate an entry in parts
+    public static final int CHUNK_SIZE = 64;
+
     private final List<Validator> validators;
     private final Aggregator aggregator;
     private final Processor processor;
 
     private Context context = new Context();
     private Bundle bundle;
+    private ValidationExecutor executor;
+    private volatile ValidationTiming.Recorder recorder;
+    private ValidationTiming timing;
     protected boolean completed = false;
 
     @Autowired
@@ -65,6 +85,36 @@ public class ValidateRunner implements Runnable {
         this.context = context;
     }
 
+    /**
+     * The executor set on this runner, or the shared default one.
+     */
+    public ValidationExecutor getExecutor() {
+        return executor != null ? executor : ValidationExecutor.getDefault();
+    }
+
+    @Autowired(required = false)
+    public void setExecutor(ValidationExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Wall and CPU time of the last run, or null before the first one. Each run logs it at debug level.
+     */
+    public ValidationTiming getTiming() {
+        return timing;
+    }
+
+    public static ParseCache getParseCache() {
+        return PARSE_CACHE;
+    }
+
+    /**
+     * Drops what is kept of a document to reparse only its edits, once it is closed.
+     */
+    public static void forget(String path) {
+        CSS_PARSER.remove(path);
+    }
+
     public boolean isCompleted() {
         return this.completed;
     }
@@ -74,7 +124,18 @@ public class ValidateRunner implements Runnable {
     }
 
     protected void setupBundle() {
-        getBundle().getEntries().forEach(e -> e.setInputs(getInputs(e)));
+        List<Entry> entries = getBundle().getEntries();
+        List<Callable<List<Input>>> tasks = new ArrayList<>(entries.size());
+
+        for (Entry entry : entries) {
+            tasks.add(() -> getInputs(entry));
+        }
+
+        List<List<Input>> inputs = invokeAll(tasks);
+
+        for (int i = 0; i < entries.size(); i++) {
+            entries.get(i).setInputs(inputs.get(i));
+        }
 
         String componentName = getComponentName(getBundle());
         Entry.EntityType type = getType(getBundle());
@@ -101,32 +162,129 @@ public class ValidateRunner implements Runnable {
     @Override
     public void run() {
         if (context.isEnabled(ContextKey.GLOBAL)) {
-            setup();
-
-            for (Entry entry : bundle.getEntries()) {
-                List<Recommendation> recommendations = validators.parallelStream()
-                        .filter(validator -> validator instanceof RecommendationValidator)
-                        .map(validator -> (RecommendationValidator) validator)
-                        .map(validator -> validator.matches(entry, bundle, context))
-                        .flatMap(List::stream)
-                        .collect(aggregator.toList());
-
-                entry.setRecommendation(processor.process(entry, recommendations));
-
-                List<ComponentOverride> overrides = validators.parallelStream()
-                        .filter(validator -> validator instanceof OverrideValidator)
-                        .map(validator -> (OverrideValidator) validator)
-                        .map(validator -> validator.getOverrides(entry, bundle, context))
-                        .flatMap(List::stream)
-                        .collect(Collectors.toList());
-
-                entry.setOverrides(overrides);
+            recorder = ValidationTiming.start();
+
+            try {
+                setup();
+                validate();
+            } finally {
+                timing = recorder.stop(bundle.getEntries().size());
+                recorder = null;
+            }
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(timing + " on " + getExecutor().getParallelism() + " threads");
             }
         }
 
         completed = true;
     }
 
+    /**
+     * Validates every entry with every validator as a task of its own, splitting the inputs of
+     * long entries into chunks for the validators that allow it. Results are put back together
+     * per entry in the order of the validators and of the chunks before they are aggregated.
+     */
+    protected void validate() {
+        List<Entry> entries = bundle.getEntries();
+
+        List<RecommendationValidator> recommendationValidators = new ArrayList<>();
+        List<OverrideValidator> overrideValidators = new ArrayList<>();
+
+        for (Validator validator : validators) {
+            if (validator instanceof RecommendationValidator) {
+                recommendationValidators.add((RecommendationValidator) validator);
+            }
+
+            if (validator instanceof OverrideValidator) {
+                overrideValidators.add((OverrideValidator) validator);
+            }
+        }
+
+        List<Callable<List<Recommendation>>> recommendationTasks = new ArrayList<>();
+        List<Callable<List<ComponentOverride>>> overrideTasks = new ArrayList<>();
+        int[] recommendationBounds = new int[entries.size() + 1];
+
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            List<Entry> chunks = null;
+
+            for (RecommendationValidator validator : recommendationValidators) {
+                if (validator.isSplittable()) {
+                    chunks = chunks == null ? split(entry) : chunks;
+
+                    for (Entry chunk : chunks) {
+                        recommendationTasks.add(() -> validator.matches(chunk, bundle, context));
+                    }
+                } else {
+                    recommendationTasks.add(() -> validator.matches(entry, bundle, context));
+                }
+            }
+
+            for (OverrideValidator validator : overrideValidators) {
+                overrideTasks.add(() -> validator.getOverrides(entry, bundle, context));
+            }
+
+            recommendationBounds[i + 1] = recommendationTasks.size();
+        }
+
+        List<List<Recommendation>> recommendations = invokeAll(recommendationTasks);
+        List<List<ComponentOverride>> overrides = invokeAll(overrideTasks);
+
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+
+            entry.setRecommendation(processor.process(entry,
+                    recommendations.subList(recommendationBounds[i], recommendationBounds[i + 1]).stream()
+                            .flatMap(List::stream)
+                            .collect(aggregator.toList())));
+
+            entry.setOverrides(overrides.subList(i * overrideValidators.size(), (i + 1) * overrideValidators.size())
+                    .stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * The entry as copies holding consecutive parts of its inputs, or the entry itself when it
+     * has no more than {@link #CHUNK_SIZE} of them.
+     */
+    protected List<Entry> split(Entry entry) {
+        List<Input> inputs = entry.getInputs();
+
+        if (inputs.size() <= CHUNK_SIZE) {
+            return Collections.singletonList(entry);
+        }
+
+        List<Entry> chunks = new ArrayList<>();
+
+        for (List<Input> chunk : Lists.partition(inputs, CHUNK_SIZE)) {
+            chunks.add(Entry.builder()
+                    .inputs(chunk)
+                    .path(entry.getPath())
+                    .rawContent(entry.getRawContent())
+                    .entityType(entry.getEntityType())
+                    .componentName(entry.getComponentName())
+                    .build());
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Runs the tasks on the validation executor, timed as part of the current run.
+     */
+    protected <T> List<T> invokeAll(List<Callable<T>> tasks) {
+        ValidationTiming.Recorder recorder = this.recorder;
+
+        if (recorder != null) {
+            tasks.replaceAll(recorder::time);
+        }
+
+        return getExecutor().invokeAll(tasks);
+    }
+
     protected List<Input> getInputs(Entry entry) {
         List<Input> inputs = new ArrayList<>();
 
@@ -142,7 +300,8 @@ public class ValidateRunner implements Runnable {
             return new ArrayList<>();
         }
 
-        return CSSParser.parse(entry.getRawContent());
+        return new ArrayList<>(PARSE_CACHE.get(ParseCache.Kind.CSS, entry.getPath(), entry.getRawContent(),
+                () -> CSS_PARSER.parse(entry.getPath(), entry.getRawContent())));
     }
 
     protected List<HTMLElement> getElement(Entry entry) {
@@ -154,7 +313,8 @@ public class ValidateRunner implements Runnable {
             return new ArrayList<>();
         }
 
-        return MarkupParser.parse(entry.getPath(), entry.getRawContent());
+        return new ArrayList<>(PARSE_CACHE.get(ParseCache.Kind.MARKUP, entry.getPath(), entry.getRawContent(),
+                () -> MarkupParser.parse(entry.getPath(), entry.getRawContent())));
     }
 
     protected List<Block> getBlocks(Entry entry) {
@@ -162,7 +322,8 @@ public class ValidateRunner implements Runnable {
             return new ArrayList<>();
         }
 
-        return JavascriptParser.convert(entry.getPath(), entry.getRawContent());
+        return new ArrayList<>(PARSE_CACHE.get(ParseCache.Kind.JAVASCRIPT, entry.getPath(), entry.getRawContent(),
+                () -> JavascriptParser.parse(entry.getPath(), entry.getRawContent())));
     }
 
 }
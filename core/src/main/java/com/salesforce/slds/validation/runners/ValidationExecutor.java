@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.validation.runners;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Threads validation runs are scheduled on, kept apart from the common fork/join pool that
+ * lsp4j and parallel streams elsewhere share. By default a work-stealing pool of daemon
+ * threads, one per core unless {@code slds.validation.threads} says otherwise. With
+ * {@code slds.validation.virtualThreads} set, each task gets a virtual thread instead, on JDKs
+ * that have them; older ones keep the pool.
+ *
+ * Parallel streams started from a task of the pool run on the pool as well. Virtual threads
+ * belong to no fork/join pool, so there they run on the common pool, except for the chunked
+ * CSS parse, which has a pool of its own.
+ */
+@Component
+public class ValidationExecutor implements DisposableBean {
+
+    public static final String THREADS = "slds.validation.threads";
+    public static final String VIRTUAL_THREADS = "slds.validation.virtualThreads";
+
+    private static volatile ValidationExecutor defaultExecutor;
+
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final boolean virtual;
+
+    @Autowired
+    public ValidationExecutor(@Value("${" + THREADS + ":0}") int threads,
+                              @Value("${" + VIRTUAL_THREADS + ":false}") boolean virtualThreads) {
+        this.parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        ExecutorService virtualExecutor = virtualThreads ? newVirtualThreadPerTaskExecutor() : null;
+
+        this.virtual = virtualExecutor != null;
+        this.executor = virtual ? virtualExecutor : new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("slds-validation-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Executor for runners created outside of Spring, configured through the system
+     * properties of the same names.
+     */
+    public static ValidationExecutor getDefault() {
+        ValidationExecutor executor = defaultExecutor;
+
+        if (executor == null) {
+            synchronized (ValidationExecutor.class) {
+                executor = defaultExecutor;
+
+                if (executor == null) {
+                    executor = new ValidationExecutor(Integer.getInteger(THREADS, 0), Boolean.getBoolean(VIRTUAL_THREADS));
+                    defaultExecutor = executor;
+                }
+            }
+        }
+
+        return executor;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Runs the tasks and returns their results in the same order. A task calling this from a
+     * pool thread helps with the pending work while it waits rather than blocking a thread.
+     */
+    public <T> List<T> invokeAll(List<? extends Callable<T>> tasks) {
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(task));
+        }
+
+        List<T> results = new ArrayList<>(tasks.size());
+
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(futures);
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            cancel(futures);
+
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new RuntimeException(e.getCause());
+        }
+
+        return results;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static void cancel(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Looked up reflectively, since the project still targets Java 8.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
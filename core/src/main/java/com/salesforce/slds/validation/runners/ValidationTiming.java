@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.validation.runners;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time a validation run took: the wall time from start to finish, and the CPU time of the
+ * threads that parsed and validated its entries, summed over every task. The CPU time is -1
+ * when the JVM cannot measure it for the threads the tasks ran on.
+ */
+public final class ValidationTiming {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final int entries;
+    private final int tasks;
+    private final long wallTime;
+    private final long cpuTime;
+
+    ValidationTiming(int entries, int tasks, long wallTime, long cpuTime) {
+        this.entries = entries;
+        this.tasks = tasks;
+        this.wallTime = wallTime;
+        this.cpuTime = cpuTime;
+    }
+
+    public int getEntries() {
+        return entries;
+    }
+
+    public int getTasks() {
+        return tasks;
+    }
+
+    public long getWallTime(TimeUnit unit) {
+        return unit.convert(wallTime, TimeUnit.NANOSECONDS);
+    }
+
+    public long getCpuTime(TimeUnit unit) {
+        return cpuTime < 0 ? -1 : unit.convert(cpuTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "Validated " + entries + " entries in " + tasks + " tasks: " +
+                getWallTime(TimeUnit.MILLISECONDS) + " ms wall, " +
+                (cpuTime < 0 ? "unknown" : getCpuTime(TimeUnit.MILLISECONDS) + " ms") + " CPU";
+    }
+
+    static Recorder start() {
+        return new Recorder();
+    }
+
+    static final class Recorder {
+        private final long start = System.nanoTime();
+        private final LongAdder cpuTime = new LongAdder();
+        private final LongAdder tasks = new LongAdder();
+
+        private volatile boolean measured = true;
+
+        <T> Callable<T> time(Callable<T> task) {
+            return () -> {
+                long before = getCurrentThreadCpuTime();
+
+                try {
+                    return task.call();
+                } finally {
+                    long after = getCurrentThreadCpuTime();
+
+                    if (before < 0 || after < 0) {
+                        measured = false;
+                    } else {
+                        cpuTime.add(after - before);
+                    }
+
+                    tasks.increment();
+                }
+            };
+        }
+
+        ValidationTiming stop(int entries) {
+            return new ValidationTiming(entries, tasks.intValue(), System.nanoTime() - start,
+                    measured ? cpuTime.sum() : -1);
+        }
+
+        private static long getCurrentThreadCpuTime() {
+            try {
+                return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : -1;
+            } catch (UnsupportedOperationException e) {
+                return -1;
+            }
+        }
+    }
+}
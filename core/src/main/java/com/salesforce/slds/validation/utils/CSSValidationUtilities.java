@@ -7,22 +7,27 @@
 
 package com.salesforce.slds.validation.utils;
 
+import com.salesforce.slds.shared.converters.CanonicalValue;
 import com.salesforce.slds.shared.converters.Converter;
+import com.salesforce.slds.shared.converters.ValueForm;
 import com.salesforce.slds.shared.models.core.Entry;
 import com.salesforce.slds.shared.models.core.Style;
 import com.salesforce.slds.shared.models.locations.Location;
 import com.salesforce.slds.shared.models.locations.Range;
 import com.salesforce.slds.shared.models.recommendation.Item;
 import com.salesforce.slds.shared.models.recommendation.Recommendation;
+import com.salesforce.slds.shared.utils.PossibleValues;
 import com.salesforce.slds.shared.utils.ValueUtilities;
 import com.salesforce.slds.tokens.models.DesignToken;
 import com.salesforce.slds.tokens.models.TokenType;
+import com.salesforce.slds.tokens.registry.PropertyPatterns;
+import com.salesforce.slds.tokens.registry.TokenIndex;
+import com.salesforce.slds.tokens.registry.ValueFormIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Component
@@ -37,70 +42,119 @@ public class CSSValidationUtilities {
         this.actionUtilities = actionUtilities;
     }
 
-    public Recommendation match(Style style, List<DesignToken> tokens, Entry.EntityType entityType, List<String> rawContent) {
+    public Recommendation match(Style style, TokenIndex tokens, Entry.EntityType entityType, List<String> rawContent) {
+        return match(style, () -> valueUtilities.getState(style.getValue()), tokens, entityType, rawContent);
+    }
+
+    /**
+     * Same as {@link #match(Style, TokenIndex, Entry.EntityType, List)} with the value already
+     * run through {@link #getConverters()}, which is only asked for when some token applies.
+     */
+    public Recommendation match(Style style, Supplier<Converter.State> state, TokenIndex tokens,
+                                Entry.EntityType entityType, List<String> rawContent) {
         if (style.validate() == false) {
             return null;
         }
 
-        Set<DesignToken> applicableTokens = getApplicableTokens(style, tokens);
+        return match(style, state, tokens.getDesignTokensByValue(style.getProperty()),
+                tokens.getDesignTokensByValueForm(style.getProperty()), entityType, rawContent);
+    }
 
-        if (applicableTokens.isEmpty()) {
+    /**
+     * Converters the values of declarations go through before being matched against tokens.
+     */
+    public List<Converter> getConverters() {
+        return valueUtilities.getConverters();
+    }
+
+    /**
+     * Colours and lengths are looked up by their canonical form, so equivalent spellings match
+     * with a numeric comparison. Other locations are looked up by their spellings.
+     */
+    private Recommendation match(Style style, Supplier<Converter.State> convert,
+                                 Map<String, List<DesignToken>> tokensByValue, ValueFormIndex forms,
+                                 Entry.EntityType entityType, List<String> rawContent) {
+        if (tokensByValue.isEmpty()) {
             return null;
         }
 
         final String originalValue = style.getValue();
-        final Converter.State state = valueUtilities.getState(originalValue);
-        Set<String> possibleValues = valueUtilities.generatePossibleValues(originalValue, state);
+        final Converter.State state = convert.get();
+        final List<Converter.State.Location> locations = state.getLocations();
 
-        Set<Item> result = applicableTokens.stream()
-                .map(token -> {
+        Map<DesignToken, List<Converter.State.Location>> partialMatches = new LinkedHashMap<>();
 
-                    List<Converter.State.Location> locations = new ArrayList<>();
+        for (Converter.State.Location location : locations) {
+            CanonicalValue value = state.getCanonicalValue(location);
+            List<DesignToken> matches = new ArrayList<>();
 
-                    state.getValues().forEach((tokenLocation, values) -> {
-                        Converter.State.Location valueLocation = tokenLocation;
+            if (value != null) {
+                matches.addAll(forms.find(ValueForm.of(value)));
+            } else {
+                for (String spelling : state.getValues(location)) {
+                    matches.addAll(tokensByValue.getOrDefault(spelling, Collections.emptyList()));
+                }
+            }
 
-                        if (state.getValues().get(tokenLocation).contains(token.getValue())) {
-                            locations.add(valueLocation);
-                        }
-                    });
+            for (DesignToken token : matches) {
+                if (token.getTokenType() == TokenType.TOKEN) {
+                    partialMatches.computeIfAbsent(token, t -> new ArrayList<>()).add(location);
+                }
+            }
+        }
 
-                    List<Item> items = new ArrayList<>();
+        Set<DesignToken> fullMatches = new LinkedHashSet<>();
 
-                    if (locations.size() > 0) {
+        if (coversValue(locations, originalValue) == false) {
+            ValueForm form = ValueForm.of(state);
+            List<DesignToken> matches = new ArrayList<>();
 
-                        int startIndex = rawContent.get(style.getRange().getStart().getLine()).indexOf(originalValue);
+            if (form != null) {
+                matches.addAll(forms.find(form));
+            } else {
+                PossibleValues possibleValues = valueUtilities.getPossibleValues(originalValue, state);
 
-                        for (Converter.State.Location location : locations) {
+                tokensByValue.forEach((tokenValue, tokens) -> {
+                    if (possibleValues.contains(tokenValue)) {
+                        matches.addAll(tokens);
+                    }
+                });
+            }
 
-                            Location start = new Location(style.getRange().getStart().getLine(),
-                                    startIndex + location.getStart());
+            for (DesignToken token : matches) {
+                if (token.getTokenType() == TokenType.TOKEN && partialMatches.containsKey(token) == false) {
+                    fullMatches.add(token);
+                }
+            }
+        }
 
-                            Location end = new Location(style.getRange().getStart().getLine(),
-                                    startIndex + location.getEnd());
+        Set<Item> result = new HashSet<>();
 
-                            Range range = new Range(start, end);
-                            String content = originalValue.substring(location.getStart(), location.getEnd());
+        if (partialMatches.isEmpty() == false) {
+            int startIndex = rawContent.get(style.getRange().getStart().getLine()).indexOf(originalValue);
 
-                            items.add(new Item(content,
-                                    actionUtilities.converts(entityType, token, range)));
-                        }
+            partialMatches.forEach((token, tokenLocations) -> {
+                for (Converter.State.Location location : tokenLocations) {
 
-                        return items;
-                    }
+                    Location start = new Location(style.getRange().getStart().getLine(),
+                            startIndex + location.getStart());
 
-                    if (possibleValues.contains(token.getValue())) {
-                        items.add(new Item(originalValue, actionUtilities.converts(entityType, token,
-                                getValueSpecificRange(originalValue, style, rawContent))));
+                    Location end = new Location(style.getRange().getStart().getLine(),
+                            startIndex + location.getEnd());
 
-                        return items;
-                    }
+                    Range range = new Range(start, end);
+                    String content = originalValue.substring(location.getStart(), location.getEnd());
 
-                    return null;
-                })
-                .filter(Objects::nonNull)
-                .flatMap(List::stream)
-                .collect(Collectors.toSet());
+                    result.add(new Item(content,
+                            actionUtilities.converts(entityType, token, range)));
+                }
+            });
+        }
+
+        for (DesignToken token : fullMatches) {
+            result.add(new Item(originalValue, actionUtilities.converts(entityType, token,
+                    getValueSpecificRange(originalValue, style, rawContent))));
+        }
 
         if (result.isEmpty() == false) {
             return Recommendation.builder()
@@ -111,21 +165,43 @@ public class CSSValidationUtilities {
         }
     }
 
+    /**
+     * Whether the converted locations leave nothing to combine, i.e. there are none or a single
+     * one spans the whole value. The full-value spellings are then the location spellings.
+     */
+    private boolean coversValue(List<Converter.State.Location> locations, String value) {
+        if (locations.isEmpty()) {
+            return true;
+        }
+
+        if (locations.size() == 1) {
+            Converter.State.Location location = locations.get(0);
+            return location.getStart() == 0 && location.getEnd() == value.length();
+        }
+
+        return false;
+    }
+
     boolean containsProperties(Style style, DesignToken token) {
-        return token.getCssProperties().stream()
-                .anyMatch(cssProperty -> match(style, cssProperty));
+        return filter(style.getProperty(), token.getCssProperties());
     }
 
     public boolean filter(Style style, List<String> properties) {
-        return  style != null &&
-                properties.stream().anyMatch(property -> match(style, property));
+        return  style != null && filter(style.getProperty(), properties);
     }
 
-    private boolean match(Style style, String value) {
-        String regex = value.replaceAll("\\*", "(?:\\.*)?");
-        Pattern p = Pattern.compile("^" + regex + "$");
-        Matcher matcher = p.matcher(style.getProperty());
-        return matcher.find();
+    /**
+     * Whether the property matches any of the patterns. To match one property against the same
+     * patterns repeatedly, add them to a {@link PropertyPatterns} once instead.
+     */
+    public boolean filter(String property, List<String> properties) {
+        for (String pattern : properties) {
+            if (PropertyPatterns.matches(pattern, property)) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     /**
@@ -156,6 +232,18 @@ public class CSSValidationUtilities {
 
     }
 
+    public Set<DesignToken> getApplicableTokens(Style style, TokenIndex tokens) {
+        Set<DesignToken> applicableTokens = new HashSet<>();
+
+        for (DesignToken token : tokens.getDesignTokensFromProperty(style.getProperty())) {
+            if (token.getTokenType() == TokenType.TOKEN) {
+                applicableTokens.add(token);
+            }
+        }
+
+        return applicableTokens;
+    }
+
     public String extractTokenNameFromComment(String comment){
         String[] comments = comment.split(" ");
         for (String c: comments){
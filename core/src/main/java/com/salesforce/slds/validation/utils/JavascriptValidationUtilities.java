@@ -10,6 +10,7 @@ package com.salesforce.slds.validation.utils;
 import com.salesforce.slds.tokens.models.DesignToken;
 import com.salesforce.slds.tokens.models.TokenType;
 import com.salesforce.slds.shared.models.core.Block;
+import com.salesforce.slds.shared.models.locations.LineIndex;
 import com.salesforce.slds.shared.models.locations.Location;
 import com.salesforce.slds.shared.models.locations.Range;
 import com.salesforce.slds.shared.models.recommendation.Item;
@@ -68,41 +69,56 @@ public class JavascriptValidationUtilities {
     public Set<ProcessingItem> getStyleValues(Block block, List<String> rawContent) {
         Matcher matcher = SLDS.matcher(block.getValue());
 
+        if (block.getOffset() >= 0) {
+            return getStyleValues(matcher, block.getOffset(), LineIndex.of(rawContent));
+        }
+
         Set<String> styles = new LinkedHashSet<>();
 
         while(matcher.find()){
             styles.add(matcher.group());
         }
 
+        LineIndex lines = LineIndex.of(rawContent);
+        int blockStart = lines.getOffset(Math.max(0, block.getLineNumber() - 1), 0);
+
         return styles.stream().map(s -> {
             int numberOfOccurrences = StringUtils.countOccurrencesOf(block.getValue(), s);
             List<ProcessingItem> processingItems = new ArrayList<>();
 
-            int lineIndex = block.getLineNumber() - 2;
-            int column = -1;
-
-            while(numberOfOccurrences > 0) {
-                do {
-                    if (column == -1) {
-                        lineIndex++;
-                    }
-                    column = rawContent.get(lineIndex).indexOf(s, column);
-                } while (column == -1);
+            int offset = lines.indexOf(s, blockStart);
 
+            while(numberOfOccurrences > 0 && offset != -1) {
+                Location start = lines.getLocation(offset);
 
                 processingItems.add(new ProcessingItem(s, new Range(
-                        new Location(lineIndex, column),
-                        new Location(lineIndex, column + s.length())
+                        start,
+                        new Location(start.getLine(), start.getColumn() + s.length())
                 )));
 
                 numberOfOccurrences--;
-                column++;
+                offset = lines.indexOf(s, offset + 1);
             }
 
             return processingItems;
         }).flatMap(List::stream).collect(Collectors.toSet());
     }
 
+    private Set<ProcessingItem> getStyleValues(Matcher matcher, int blockOffset, LineIndex lines) {
+        Set<ProcessingItem> items = new LinkedHashSet<>();
+
+        while (matcher.find()) {
+            Location start = lines.getLocation(blockOffset + matcher.start());
+
+            items.add(new ProcessingItem(matcher.group(), new Range(
+                    start,
+                    new Location(start.getLine(), start.getColumn() + matcher.group().length())
+            )));
+        }
+
+        return items;
+    }
+
     public Map<String, List<ProcessingItem>> getPossibleValues(Block block, List<String> rawContent) {
         Map<String, List<ProcessingItem>> styles = new HashMap<>();
 
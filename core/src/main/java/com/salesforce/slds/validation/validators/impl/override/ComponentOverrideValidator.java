@@ -50,7 +50,8 @@ public class ComponentOverrideValidator implements OverrideValidator {
                                 ComponentOverride co = ComponentOverride
                                         .builder()
                                         .sldsComponentClass(sldsComponentClass)
-                                        .selector(selector).build();
+                                        .selector(selector)
+                                        .rule(input).build();
 
                                 Action action = Action.builder()
                                         .name(sldsComponentClass)
@@ -13,7 +13,6 @@ import com.salesforce.slds.shared.converters.TypeConverters;
 import com.salesforce.slds.shared.converters.tokens.TokenType;
 import com.salesforce.slds.shared.models.context.Context;
 import com.salesforce.slds.shared.models.context.ContextKey;
-import com.salesforce.slds.shared.models.core.Bundle;
 import com.salesforce.slds.shared.models.core.Entry;
 import com.salesforce.slds.shared.models.core.Input;
 import com.salesforce.slds.shared.models.core.Style;
@@ -27,8 +26,9 @@ import com.salesforce.slds.tokens.models.DesignToken;
 import com.salesforce.slds.tokens.models.TokenStatus;
 import com.salesforce.slds.tokens.registry.TokenRegistry;
 import com.salesforce.slds.validation.utils.CSSValidationUtilities;
-import com.salesforce.slds.validation.validators.interfaces.RecommendationValidator;
+import com.salesforce.slds.validation.validators.interfaces.StyleRule;
 import com.salesforce.slds.validation.validators.models.Properties;
+import com.salesforce.slds.validation.validators.models.StyleScope;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -38,10 +38,11 @@ import java.io.InputStream;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 @Component
-public class DesignTokenValidator implements RecommendationValidator, InitializingBean {
+public class DesignTokenValidator implements StyleRule, InitializingBean {
+
+    private static final TypeConverters TOKEN_CONVERTERS = new TypeConverters(TokenType.get());
 
     private Pattern VAR_FUNCTION_PATTERN = Pattern.compile(RegexPattern.VAR_FUNCTION, Pattern.CASE_INSENSITIVE);
     private Map<String, String> DEPRECATED_TOKENS_FROM_RESOURCES = new LinkedHashMap<>();
@@ -60,36 +61,32 @@ public class DesignTokenValidator implements RecommendationValidator, Initializi
     TokenRegistry tokenRegistry;
 
     @Override
-    public List<Recommendation> matches(Entry entry, Bundle bundle, Context context) {
-        List<Recommendation> recommendations = new ArrayList<>();
-
-        if (context.isEnabled(ContextKey.DESIGN_TOKEN) && (context.isEnabled(ContextKey.DEPRECATED) ||
-                context.isEnabled(ContextKey.INVALID) )) {
-
-            List<Input> inputs = entry.getInputs().stream()
-                    .filter(input -> input.getType() == Input.Type.STYLE).collect(Collectors.toList());
-
-            for (Input input : inputs) {
-                List<Style> styles = input.asRuleSet().getStyles();
+    public boolean isEnabled(Entry entry, Context context) {
+        return context.isEnabled(ContextKey.DESIGN_TOKEN) && (context.isEnabled(ContextKey.DEPRECATED) ||
+                context.isEnabled(ContextKey.INVALID));
+    }
 
-                recommendations.addAll(styles.stream()
-                        .map(style -> process(style, context, entry.getEntityType(), entry.getRawContent()))
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toList()));
-            }
-        }
+    /**
+     * Checks the declaration as written, without the annotation type of its rule.
+     */
+    @Override
+    public void visit(Style style, StyleScope scope) {
+        Entry entry = scope.getEntry();
 
-        return recommendations;
+        scope.add(process(scope.getDeclaredStyle(), scope.getState(TOKEN_CONVERTERS), scope.getContext(),
+                entry.getEntityType(), entry.getRawContent()));
     }
 
     /**
      * Process CSS RuleSet
      * @param style
+     * @param state
      * @param rawContents
      * @return Recommendation
      */
-    private Recommendation process(Style style, Context context, Entry.EntityType entityType, List<String> rawContents) {
-        Set<Item> items = provideRecommendations(style, context, entityType, rawContents);
+    private Recommendation process(Style style, Converter.State state, Context context, Entry.EntityType entityType,
+                                   List<String> rawContents) {
+        Set<Item> items = provideRecommendations(style, state, context, entityType, rawContents);
         if (items.isEmpty() == false) {
             Recommendation.RecommendationBuilder builder = Recommendation.builder();
             builder.input(style).items(items);
@@ -101,15 +98,14 @@ public class DesignTokenValidator implements RecommendationValidator, Initializi
     /**
      * Provide recommendations
      * @param style
+     * @param state
      * @param rawContents
      * @return
      */
-    private Set<Item> provideRecommendations(Style style, Context context, Entry.EntityType entityType, List<String> rawContents) {
+    private Set<Item> provideRecommendations(Style style, Converter.State state, Context context,
+                                             Entry.EntityType entityType, List<String> rawContents) {
         Set<Item> items = new LinkedHashSet<>();
 
-        TypeConverters converters = new TypeConverters(TokenType.get());
-        final Converter.State state = converters.process(Converter.State.builder().input(style.getValue()).build());
-
         state.getValues().forEach((location, values) -> {
             String originalValue = state.getInput().substring(location.getStart(), location.getEnd());
 
@@ -18,7 +18,9 @@ import com.salesforce.slds.shared.models.recommendation.Item;
 import com.salesforce.slds.shared.models.recommendation.Recommendation;
 import com.salesforce.slds.tokens.registry.TokenRegistry;
 import com.salesforce.slds.validation.utils.JavascriptValidationUtilities;
+import com.salesforce.slds.validation.validators.interfaces.MarkupRule;
 import com.salesforce.slds.validation.validators.interfaces.RecommendationValidator;
+import com.salesforce.slds.validation.validators.models.MarkupScope;
 import com.salesforce.slds.validation.validators.models.ProcessingItem;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -32,9 +34,10 @@ import java.util.stream.Collectors;
 /**
  * Handle Javascript and Markup Invalid Token Only
  * Invalid CSS is processed within @{@link DesignTokenValidator}
+ * Markup is visited by @{@link MarkupValidator}
  */
 @Component
-public class InvalidValidator implements RecommendationValidator {
+public class InvalidValidator implements RecommendationValidator, MarkupRule {
 
     @Autowired
     JavascriptValidationUtilities javascriptValidationUtilities;
@@ -56,17 +59,21 @@ public class InvalidValidator implements RecommendationValidator {
         return recommendations;
     }
 
+    @Override
+    public boolean isEnabled(Entry entry, Context context) {
+        return context.isEnabled(ContextKey.INVALID);
+    }
+
+    @Override
+    public void visit(HTMLElement element, MarkupScope scope) {
+        scope.add(process(element));
+    }
+
     protected List<Recommendation> process(Input input, List<String> rawContents) {
         List<Recommendation> result = new ArrayList<>();
 
         Recommendation recommendation;
         switch (input.getType()) {
-            case MARKUP:
-                recommendation = process(input.asElement());
-                if (recommendation !=null) {
-                    result.add(recommendation);
-                }
-                break;
             case JAVASCRIPT:
                 recommendation = process(input.asBlock(), rawContents);
                 if (recommendation !=null) {
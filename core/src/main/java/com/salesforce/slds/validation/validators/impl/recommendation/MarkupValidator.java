@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.validation.validators.impl.recommendation;
+
+import com.salesforce.slds.shared.models.context.Context;
+import com.salesforce.slds.shared.models.core.Bundle;
+import com.salesforce.slds.shared.models.core.Entry;
+import com.salesforce.slds.shared.models.core.HTMLElement;
+import com.salesforce.slds.shared.models.core.Input;
+import com.salesforce.slds.shared.models.recommendation.Recommendation;
+import com.salesforce.slds.validation.validators.interfaces.MarkupRule;
+import com.salesforce.slds.validation.validators.interfaces.RecommendationValidator;
+import com.salesforce.slds.validation.validators.models.MarkupScope;
+import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Runs every {@link MarkupRule} over the elements of an entry in a single walk down the
+ * markup, which keeps track of the ancestors of each element for the rules.
+ */
+@Component
+public class MarkupValidator implements RecommendationValidator {
+
+    @Autowired
+    List<MarkupRule> rules;
+
+    @Override
+    public List<Recommendation> matches(Entry entry, Bundle bundle, Context context) {
+        List<MarkupRule> enabled = rules.stream()
+                .filter(rule -> rule.isEnabled(entry, context))
+                .collect(Collectors.toList());
+
+        List<HTMLElement> inputs = entry.getInputs().stream()
+                .map(Input::asElement).filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        if (enabled.isEmpty() || inputs.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Element, HTMLElement> elements = new IdentityHashMap<>();
+        for (HTMLElement element : inputs) {
+            elements.put(element.getContent(), element);
+        }
+
+        MarkupScope scope = new MarkupScope(entry, context);
+
+        for (HTMLElement element : inputs) {
+            if (elements.containsKey(element.getContent().parent()) == false) {
+                visit(element.getContent(), elements, enabled, scope);
+            }
+        }
+
+        return scope.complete();
+    }
+
+    private void visit(Element content, Map<Element, HTMLElement> elements,
+                       List<MarkupRule> rules, MarkupScope scope) {
+        HTMLElement element = elements.get(content);
+
+        if (element != null) {
+            for (MarkupRule rule : rules) {
+                rule.visit(element, scope);
+            }
+        }
+
+        scope.enter(content);
+
+        for (Element child : content.children()) {
+            visit(child, elements, rules, scope);
+        }
+
+        scope.exit(content);
+    }
+}
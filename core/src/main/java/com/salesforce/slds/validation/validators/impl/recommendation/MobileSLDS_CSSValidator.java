@@ -26,7 +26,8 @@ import com.salesforce.slds.shared.utils.CssFontShortHandUtilities;
 import com.salesforce.slds.tokens.models.DesignToken;
 import com.salesforce.slds.tokens.registry.TokenRegistry;
 import com.salesforce.slds.validation.utils.CSSValidationUtilities;
-import com.salesforce.slds.validation.validators.interfaces.RecommendationValidator;
+import com.salesforce.slds.validation.validators.interfaces.StyleRule;
+import com.salesforce.slds.validation.validators.models.StyleScope;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -34,14 +35,16 @@ import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 @Component
-public class MobileSLDS_CSSValidator implements RecommendationValidator {
+public class MobileSLDS_CSSValidator implements StyleRule {
     public static final String USE_FONT_SIZE_4_OR_LARGER = "For best readability on mobile devices, consider using fontSize4 or larger.";
     public static final String USE_FONT_SIZE_14PX_OR_LARGER = "For best readability on mobile devices, consider using 14px or larger.";
     public static final String AVOID_TRUNCATION = "On a mobile device, a long label can exceed the screen width if it's prevented from wrapping.";
 
+    private static final TypeConverters VAR_CONVERTERS = new TypeConverters(ImmutableList.of(new VarTokenType()));
+    private static final TypeConverters CONVERTERS = new TypeConverters();
+
     private final String ACTION_NAME = "Mobile SLDS CSS";
     private final String FONT_SIZE_SLDS_PREFIX = "fontSize";
     private final String PX = "px";
@@ -52,38 +55,28 @@ public class MobileSLDS_CSSValidator implements RecommendationValidator {
     @Autowired
     TokenRegistry tokenRegistry;
 
-    @Override
-    public List<Recommendation> matches(Entry entry, Bundle  bundle, Context context) {
-        List<Recommendation> recommendations = new ArrayList<>();
-
-        if (!context.isEnabled(ContextKey.SLDS_MOBILE_VALIDATION)) {
-            return recommendations;
-        }
 
-        List<Input> inputs = entry.getInputs().stream()
-                .filter(input -> input.getType() == Input.Type.STYLE).collect(Collectors.toList());
+    @Override
+    public boolean isEnabled(Entry entry, Context context) {
+        return context.isEnabled(ContextKey.SLDS_MOBILE_VALIDATION);
+    }
 
-        for (Input input : inputs) {
-            List<Style> styles = input.asRuleSet().getStylesWithAnnotationType();
-            recommendations.addAll(styles.stream()
-                    .filter(Style::validate)
-                    .map(style -> process(style, context, entry.getRawContent()))
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList()));
+    @Override
+    public void visit(Style style, StyleScope scope) {
+        if (style.validate()) {
+            scope.add(process(style, scope, scope.getEntry().getRawContent()));
         }
-
-        return recommendations;
     }
 
     /**
      * Process CSS RuleSet
      * @param style
-     * @param context
+     * @param scope
      * @param rawContents
      * @return Recommendation
      */
-    private Recommendation process(Style style, Context context, List<String> rawContents) {
-        Set<Item> items = provideRecommendations(style, context, rawContents);
+    private Recommendation process(Style style, StyleScope scope, List<String> rawContents) {
+        Set<Item> items = provideRecommendations(style, scope, rawContents);
         if (items.isEmpty() == false) {
             Recommendation.RecommendationBuilder builder = Recommendation.builder();
             builder.input(style).items(items);
@@ -111,17 +104,16 @@ public class MobileSLDS_CSSValidator implements RecommendationValidator {
     /**
      * Provide recommendations
      * @param style
-     * @param context
+     * @param scope
      * @param rawContents
      * @return
      */
-    private Set<Item> provideRecommendations(Style style, Context context, List<String> rawContents) {
+    private Set<Item> provideRecommendations(Style style, StyleScope scope, List<String> rawContents) {
         Set<Item> items = new LinkedHashSet<>();
         String styleValue = style.getValue();
 
         // Check that SLDS token font size smaller than 14px(fontSize4) is not used.
-        TypeConverters converters = new TypeConverters(ImmutableList.of(new VarTokenType()));
-        Converter.State state = converters.process(Converter.State.builder().input(style.getValue()).build());
+        Converter.State state = scope.getState(VAR_CONVERTERS);
         state.getValues().forEach((location, values) -> {
             for (String value : values) {
                 Optional<DesignToken> designToken = tokenRegistry.getDesignToken(value);
@@ -145,14 +137,14 @@ public class MobileSLDS_CSSValidator implements RecommendationValidator {
 
         // Check that font size smaller than 14px is not used.
         if (style.getProperty().equals("font-size")) {
-            addActionItemsForSmallFonts(styleValue, style, rawContents, items);
+            addActionItemsForSmallFonts(styleValue, style, scope, rawContents, items);
         }
 
         if (style.getProperty().equals("font")) {
             CssFontShortHandUtilities fontShortHandUtilities = new CssFontShortHandUtilities(styleValue);
             String fontSize = fontShortHandUtilities.getFontSize();
             if (fontSize != null) {
-                addActionItemsForSmallFonts(fontSize, style, rawContents, items);
+                addActionItemsForSmallFonts(fontSize, style, scope, rawContents, items);
             }
         }
 
@@ -169,7 +161,8 @@ public class MobileSLDS_CSSValidator implements RecommendationValidator {
         addActionItems(cssValue, style, rawContents, items, USE_FONT_SIZE_4_OR_LARGER, range);
     }
 
-    private void addActionItemsForSmallFonts(String cssValue, Style style, List<String> rawContents, Set<Item> items) {
+    private void addActionItemsForSmallFonts(String cssValue, Style style, StyleScope scope, List<String> rawContents,
+                                             Set<Item> items) {
         Range range;
         String fontAbsoluteSize = "((?:xx?-)?small)";
         Pattern pattern = Pattern.compile(fontAbsoluteSize);
@@ -178,7 +171,7 @@ public class MobileSLDS_CSSValidator implements RecommendationValidator {
         if (matcher.find()) {
             range = cssValidationUtilities.getValueSpecificRange(matcher.group(0), style, rawContents);
         } else {
-            range = getRangeForSmallFonts(cssValue, style, rawContents);
+            range = getRangeForSmallFonts(cssValue, style, scope, rawContents);
         }
 
         if (!range.equals(Range.EMPTY_RANGE)) {
@@ -208,7 +201,7 @@ public class MobileSLDS_CSSValidator implements RecommendationValidator {
         items.add(item);
     }
 
-    private Range getRangeForSmallFonts(String cssValue, Style style, List<String> rawContents) {
+    private Range getRangeForSmallFonts(String cssValue, Style style, StyleScope scope, List<String> rawContents) {
         Pattern pattern = Pattern.compile(RegexPattern.FONT_SIZE_PATTERN);
         Matcher matcher = pattern.matcher(cssValue);
         Range range = Range.EMPTY_RANGE;
@@ -222,8 +215,7 @@ public class MobileSLDS_CSSValidator implements RecommendationValidator {
                 try {
                     AtomicReference<Double> pxValue = new AtomicReference<>(0.0);
                     if (!unit.contentEquals(PX)) {
-                        TypeConverters converters = new TypeConverters();
-                        Converter.State state = converters.process(Converter.State.builder().input(style.getValue()).build());
+                        Converter.State state = scope.getState(CONVERTERS);
                         state.getValues().forEach((location, valuesWithUnit) -> {
                             for (String valueWithUnit : valuesWithUnit) {
                                 if (!valueWithUnit.contains(PX)) {
@@ -8,20 +8,18 @@
 package com.salesforce.slds.validation.validators.impl.recommendation;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.salesforce.slds.shared.models.context.Context;
 import com.salesforce.slds.shared.models.context.ContextKey;
-import com.salesforce.slds.shared.models.core.Bundle;
 import com.salesforce.slds.shared.models.core.Entry;
 import com.salesforce.slds.shared.models.core.HTMLElement;
-import com.salesforce.slds.shared.models.core.Input;
 import com.salesforce.slds.shared.models.recommendation.Action;
 import com.salesforce.slds.shared.models.recommendation.ActionType;
 import com.salesforce.slds.shared.models.recommendation.Item;
 import com.salesforce.slds.shared.models.recommendation.Recommendation;
 import com.salesforce.slds.shared.utils.ResourceUtilities;
-import com.salesforce.slds.validation.validators.interfaces.RecommendationValidator;
+import com.salesforce.slds.validation.validators.interfaces.MarkupRule;
+import com.salesforce.slds.validation.validators.models.MarkupScope;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
@@ -34,7 +32,7 @@ import java.util.stream.IntStream;
 
 @Component
 @Lazy
-public class MobileSLDS_MarkupFriendlyValidator implements RecommendationValidator, InitializingBean {
+public class MobileSLDS_MarkupFriendlyValidator implements MarkupRule, InitializingBean {
     public static final String NON_MOBILE_FRIENDLY_MESSAGE_TEMPLATE =
             " is known to have issues on mobile devices. Consider these options:\n" +
             "• Find a mobile-ready replacement in the Component Reference of the Lightning Web Components Dev Guide. Filter the list using \"Salesforce Mobile App\" as the target.\n"+
@@ -43,33 +41,33 @@ public class MobileSLDS_MarkupFriendlyValidator implements RecommendationValidat
     Map<String, List<String>> componentsRegistry;
 
     @Override
-    public List<Recommendation> matches(Entry entry, Bundle bundle, Context context) {
-        if (!context.isEnabled(ContextKey.SLDS_MOBILE_VALIDATION) ||
-            entry.getEntityType() != Entry.EntityType.LWC) {
-            return Lists.newArrayList();
+    public boolean isEnabled(Entry entry, Context context) {
+        return context.isEnabled(ContextKey.SLDS_MOBILE_VALIDATION) &&
+                entry.getEntityType() == Entry.EntityType.LWC;
+    }
+
+    @Override
+    public void visit(HTMLElement htmlElement, MarkupScope scope) {
+        if (isMobileFriendly(htmlElement)) {
+            return;
         }
 
-        return entry.getInputs().stream().filter(input -> input.asElement() != null)
-                .map(Input::asElement)
-                .filter(htmlElement -> !isMobileFriendly(htmlElement))
-                .map(htmlElement -> {
-                    Recommendation.RecommendationBuilder builder = Recommendation.builder()
-                            .input(htmlElement);
+        Recommendation.RecommendationBuilder builder = Recommendation.builder()
+                .input(htmlElement);
 
-                    String tag = htmlElement.getContent().tagName();
+        String tag = htmlElement.getContent().tagName();
 
-                    Action action = Action.builder()
-                            .value(htmlElement.getContent().outerHtml()).range(htmlElement.getRange())
-                            .description(tag + NON_MOBILE_FRIENDLY_MESSAGE_TEMPLATE)
-                            .name(tag)
-                            .actionType(ActionType.NONE)
-                            .build();
+        Action action = Action.builder()
+                .value(htmlElement.getContent().outerHtml()).range(htmlElement.getRange())
+                .description(tag + NON_MOBILE_FRIENDLY_MESSAGE_TEMPLATE)
+                .name(tag)
+                .actionType(ActionType.NONE)
+                .build();
 
-                    Item item = new Item(tag, action);
-                    builder.items(Sets.newHashSet(item));
+        Item item = new Item(tag, action);
+        builder.items(Sets.newHashSet(item));
 
-                    return builder.build();
-                }).collect(Collectors.toList());
+        scope.add(builder.build());
     }
 
     private boolean isMobileFriendly(HTMLElement input) {
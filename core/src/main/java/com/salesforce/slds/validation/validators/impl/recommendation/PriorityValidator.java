@@ -10,30 +10,43 @@ package com.salesforce.slds.validation.validators.impl.recommendation;
 import com.salesforce.slds.shared.models.context.Context;
 import com.salesforce.slds.shared.models.context.ContextKey;
 import com.salesforce.slds.shared.models.core.Bundle;
+import com.salesforce.slds.shared.models.core.HTMLElement;
+import com.salesforce.slds.shared.models.core.Style;
 import com.salesforce.slds.shared.utils.ResourceUtilities;
 import com.salesforce.slds.tokens.models.DesignToken;
+import com.salesforce.slds.tokens.registry.TokenIndex;
 import com.salesforce.slds.shared.models.core.Entry;
 import com.salesforce.slds.shared.models.core.Input;
 import com.salesforce.slds.shared.models.recommendation.Recommendation;
 import com.salesforce.slds.validation.utils.CSSValidationUtilities;
 import com.salesforce.slds.validation.utils.JavascriptValidationUtilities;
 import com.salesforce.slds.validation.utils.MarkupValidationUtilities;
+import com.salesforce.slds.validation.validators.interfaces.MarkupRule;
 import com.salesforce.slds.validation.validators.interfaces.RecommendationValidator;
+import com.salesforce.slds.validation.validators.interfaces.StyleRule;
+import com.salesforce.slds.validation.validators.models.MarkupScope;
+import com.salesforce.slds.validation.validators.models.StyleScope;
 import com.salesforce.slds.validation.validators.models.Properties;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.yaml.snakeyaml.Yaml;
 
 import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Component
-public class PriorityValidator implements RecommendationValidator, InitializingBean {
+public class PriorityValidator implements RecommendationValidator, MarkupRule, StyleRule, InitializingBean {
 
     final Map<String, List<DesignToken>> TOKENS_BY_GROUP = new HashMap<>();
 
+    private final Map<String, List<DesignToken>> tokensByGroups = new ConcurrentHashMap<>();
+
+    private final Map<String, TokenIndex> indexesByGroups = new ConcurrentHashMap<>();
+
     @Autowired
     MarkupValidationUtilities markupValidationUtilities;
 
@@ -56,44 +69,80 @@ public class PriorityValidator implements RecommendationValidator, InitializingB
 
     @Override
     public List<Recommendation> matches(Entry entry, Bundle bundle, Context context) {
+        List<DesignToken> tokens = getTokens(getGroups(context));
+
+        return entry.getInputs().stream()
+                .map(input -> process(input, entry.getRawContent(), tokens))
+                .flatMap(List::stream)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean isEnabled(Entry entry, Context context) {
+        return true;
+    }
+
+    @Override
+    public void visit(HTMLElement element, MarkupScope scope) {
+        if (element.getContent().hasAttr("class")) {
+            scope.add(markupValidationUtilities.match(element, getTokens(getGroups(scope.getContext()))));
+        }
+    }
+
+    @Override
+    public boolean accepts(String property) {
+        return getIndex(String.join(",", TOKENS_BY_GROUP.keySet()))
+                .getDesignTokensFromProperty(property).isEmpty() == false;
+    }
+
+    @Override
+    public void visit(Style style, StyleScope scope) {
+        Entry entry = scope.getEntry();
+
+        scope.add(cssValidationUtilities.match(style, () -> scope.getState(cssValidationUtilities.getConverters()),
+                getIndex(getGroups(scope.getContext())), entry.getEntityType(), entry.getRawContent()));
+    }
+
+    private String getGroups(Context context) {
+        List<String> groups = new ArrayList<>();
 
-        List<DesignToken> tokens = new ArrayList<>();
         if (context.isEnabled(ContextKey.BEM)) {
-            tokens.addAll(TOKENS_BY_GROUP.get(ContextKey.BEM.name()));
+            groups.add(ContextKey.BEM.name());
         }
 
         if (context.isEnabled(ContextKey.DENSITY)) {
-            tokens.addAll(TOKENS_BY_GROUP.get(ContextKey.DENSITY.name()));
+            groups.add(ContextKey.DENSITY.name());
         }
 
-        return entry.getInputs().stream()
-                .map(input -> process(input, entry.getEntityType(), entry.getRawContent(), tokens))
-                .flatMap(List::stream)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        return String.join(",", groups);
     }
 
-    protected List<Recommendation> process(Input input, Entry.EntityType entityType, List<String> rawContents, List<DesignToken> tokens) {
+    private List<DesignToken> getTokens(String groups) {
+        return tokensByGroups.computeIfAbsent(groups, key -> {
+            List<DesignToken> tokens = new ArrayList<>();
+
+            for (String group : StringUtils.commaDelimitedListToStringArray(key)) {
+                tokens.addAll(TOKENS_BY_GROUP.get(group));
+            }
+
+            return Collections.unmodifiableList(tokens);
+        });
+    }
+
+    private TokenIndex getIndex(String groups) {
+        return indexesByGroups.computeIfAbsent(groups, key -> TokenIndex.of(getTokens(key)));
+    }
+
+    protected List<Recommendation> process(Input input, List<String> rawContents, List<DesignToken> tokens) {
         List<Recommendation> result = new ArrayList<>();
 
         Input.Type type = input.getType();
 
-        if (type == Input.Type.STYLE) {
-            result.addAll(input.asRuleSet().getStylesWithAnnotationType().stream()
-                    .map(style -> cssValidationUtilities.match(style, tokens, entityType, rawContents))
-                    .collect(Collectors.toList()));
-        }
-
         if (type == Input.Type.JAVASCRIPT) {
             result.add(javascriptValidationUtilities.match(input.asBlock(), tokens, rawContents));
         }
 
-
-        if (type == Input.Type.MARKUP &&
-                input.asElement().getContent().hasAttr("class")) {
-            result.add(markupValidationUtilities.match(input.asElement(), tokens));
-        }
-
         return result;
     }
 
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.validation.validators.impl.recommendation;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.salesforce.slds.shared.converters.StateCache;
+import com.salesforce.slds.shared.models.context.Context;
+import com.salesforce.slds.shared.models.core.*;
+import com.salesforce.slds.shared.models.recommendation.Recommendation;
+import com.salesforce.slds.tokens.models.DesignToken;
+import com.salesforce.slds.tokens.registry.TokenRegistry;
+import com.salesforce.slds.validation.utils.CSSValidationUtilities;
+import com.salesforce.slds.validation.validators.interfaces.RecommendationValidator;
+import com.salesforce.slds.validation.validators.interfaces.StyleRule;
+import com.salesforce.slds.validation.validators.models.StyleScope;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Runs every {@link StyleRule} over the declarations of an entry in a single pass, together
+ * with one {@link TokenCategoryRule} per category of design tokens. Each declaration is only
+ * handed to the rules accepting its property, which are looked up once per property.
+ */
+@Component
+public class StyleValidator implements RecommendationValidator, InitializingBean {
+
+    @Autowired
+    List<StyleRule> rules;
+
+    @Autowired
+    TokenRegistry registry;
+
+    @Autowired
+    CSSValidationUtilities utilities;
+
+    @Autowired
+    StateCache stateCache;
+
+    private final List<StyleRule> allRules = new ArrayList<>();
+    // bounded, since the properties come from the CSS being validated, custom ones and typos included
+    private final Cache<String, int[]> rulesByProperty = CacheBuilder.newBuilder().maximumSize(4096).build();
+
+    @Override
+    public void afterPropertiesSet() {
+        allRules.addAll(rules);
+
+        Set<String> categories = new LinkedHashSet<>();
+        for (DesignToken token : registry.getDesignTokens()) {
+            categories.add(token.getCategory());
+        }
+
+        for (String category : categories) {
+            allRules.add(new TokenCategoryRule(category, registry.getDesignTokensFromCategory(category), utilities));
+        }
+    }
+
+    List<StyleRule> getRules() {
+        return Collections.unmodifiableList(allRules);
+    }
+
+    @Override
+    public boolean isSplittable() {
+        return true;
+    }
+
+    @Override
+    public List<Recommendation> matches(Entry entry, Bundle bundle, Context context) {
+        boolean[] enabled = new boolean[allRules.size()];
+        boolean anyEnabled = false;
+
+        for (int i = 0; i < enabled.length; i++) {
+            enabled[i] = allRules.get(i).isEnabled(entry, context);
+            anyEnabled |= enabled[i];
+        }
+
+        if (anyEnabled == false) {
+            return new ArrayList<>();
+        }
+
+        StyleScope scope = new StyleScope(entry, context, stateCache);
+
+        for (Input input : entry.getInputs()) {
+            if (input.getType() != Input.Type.STYLE) {
+                continue;
+            }
+
+            RuleSet ruleSet = input.asRuleSet();
+            List<Style> declaredStyles = ruleSet.getStyles();
+            List<Style> styles = ruleSet.getStylesWithAnnotationType();
+
+            for (int i = 0; i < styles.size(); i++) {
+                Style style = styles.get(i);
+                scope.enter(declaredStyles.get(i));
+
+                for (int rule : getRules(style.getProperty())) {
+                    if (enabled[rule]) {
+                        allRules.get(rule).visit(style, scope);
+                    }
+                }
+            }
+        }
+
+        return scope.complete();
+    }
+
+    /**
+     * Positions of the rules accepting the property, in the order the rules were registered.
+     */
+    private int[] getRules(String property) {
+        try {
+            return rulesByProperty.get(property, () -> {
+                int[] accepting = new int[allRules.size()];
+                int count = 0;
+
+                for (int i = 0; i < allRules.size(); i++) {
+                    if (allRules.get(i).accepts(property)) {
+                        accepting[count++] = i;
+                    }
+                }
+
+                return Arrays.copyOf(accepting, count);
+            });
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.validation.validators.impl.recommendation;
+
+import com.salesforce.slds.shared.models.context.Context;
+import com.salesforce.slds.shared.models.context.ContextKey;
+import com.salesforce.slds.shared.models.core.Entry;
+import com.salesforce.slds.shared.models.core.Style;
+import com.salesforce.slds.tokens.models.DesignToken;
+import com.salesforce.slds.tokens.registry.TokenIndex;
+import com.salesforce.slds.validation.utils.CSSValidationUtilities;
+import com.salesforce.slds.validation.validators.interfaces.StyleRule;
+import com.salesforce.slds.validation.validators.models.StyleScope;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import static org.apache.commons.lang3.builder.ToStringStyle.JSON_STYLE;
+
+/**
+ * Recommends the design tokens of one category for declarations of the properties they
+ * apply to.
+ */
+public class TokenCategoryRule implements StyleRule {
+
+    private final String category;
+    private final CSSValidationUtilities utilities;
+
+    private final TokenIndex tokens;
+    private final TokenIndex globalTokens;
+
+    public TokenCategoryRule(String category, Collection<DesignToken> tokens, CSSValidationUtilities utilities) {
+        this.category = category;
+        this.utilities = utilities;
+
+        this.tokens = TokenIndex.of(tokens);
+        this.globalTokens = TokenIndex.of(tokens.stream()
+                .filter(designToken -> designToken.getScope() != null &&
+                        designToken.getScope().equalsIgnoreCase("global"))
+                .collect(Collectors.toList()));
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    @Override
+    public boolean isEnabled(Entry entry, Context context) {
+        return context.isEnabled(ContextKey.DESIGN_TOKEN);
+    }
+
+    @Override
+    public boolean accepts(String property) {
+        return tokens.getDesignTokensFromProperty(property).isEmpty() == false;
+    }
+
+    @Override
+    public void visit(Style style, StyleScope scope) {
+        TokenIndex applicableTokens = scope.getContext().isEnabled(ContextKey.HIDE_INTERNAL_TOKENS) ?
+                globalTokens : tokens;
+
+        scope.add(utilities.match(style, () -> scope.getState(utilities.getConverters()), applicableTokens,
+                scope.getEntry().getEntityType(), scope.getEntry().getRawContent()));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder( this, JSON_STYLE)
+                .append("category", category)
+                .toString();
+    }
+}
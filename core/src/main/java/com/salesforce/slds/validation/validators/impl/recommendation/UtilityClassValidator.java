@@ -7,6 +7,8 @@
 
 package com.salesforce.slds.validation.validators.impl.recommendation;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.salesforce.omakase.ast.selector.Selector;
 import com.salesforce.slds.shared.models.context.Context;
 import com.salesforce.slds.shared.models.context.ContextKey;
@@ -18,13 +20,16 @@ import com.salesforce.slds.shared.utils.TokenUtilities;
 import com.salesforce.slds.tokens.models.UtilityClass;
 import com.salesforce.slds.tokens.registry.TokenRegistry;
 import com.salesforce.slds.validation.validators.interfaces.RecommendationValidator;
+import com.salesforce.slds.validation.validators.utils.ElementIndex;
 import com.salesforce.slds.validation.validators.utils.HTMLElementUtilities;
+import com.salesforce.slds.validation.validators.utils.UtilityClassIndex;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 @Component
@@ -39,15 +44,18 @@ public class UtilityClassValidator implements RecommendationValidator, Initializ
     @Autowired
     HTMLElementUtilities utilities;
 
-    private List<UtilityClass> classes;
+    private UtilityClassIndex classes;
+
+    // elements of the bundles being validated, indexed once for every chunk of their stylesheets
+    private final Cache<Bundle, Elements> indexes = CacheBuilder.newBuilder().weakKeys().build();
 
     @Override
     public void afterPropertiesSet() {
-        classes = tokenRegistry.getUtilityClasses().stream()
+        classes = new UtilityClassIndex(tokenRegistry.getUtilityClasses().stream()
                 .map(this::cleanseName)
                 .filter(utilityClass -> utilityClass.getName().contains(" ") == false)
                 .filter(utilityClass -> utilityClass.getName().contains("*") == false)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()), tokenUtilities);
     }
 
     private UtilityClass cleanseName(UtilityClass utilityClass) {
@@ -68,18 +76,29 @@ public class UtilityClassValidator implements RecommendationValidator, Initializ
         return results;
     }
 
+    @Override
+    public boolean isSplittable() {
+        return true;
+    }
+
     @Override
     public List<Recommendation> matches(Entry entry, Bundle bundle, Context context) {
         List<Recommendation> recommendations = new ArrayList<>();
 
         if (context.isEnabled(ContextKey.UTILITY_CLASS)) {
-            final List<HTMLElement> elements = bundle.getInputs().stream()
-                    .sequential().map(Input::asElement).filter(Objects::nonNull)
+            final List<RuleSet> ruleSets = entry.getInputs().stream()
+                    .filter(input -> input.getType() == Input.Type.STYLE)
+                    .map(Input::asRuleSet)
                     .collect(Collectors.toList());
 
-            recommendations.addAll(entry.getInputs().stream()
-                    .filter(input -> input.getType() == Input.Type.STYLE)
-                    .map(input -> match(entry, input.asRuleSet(), elements))
+            if (ruleSets.isEmpty()) {
+                return recommendations;
+            }
+
+            final ElementIndex elements = index(bundle);
+
+            recommendations.addAll(ruleSets.stream()
+                    .map(ruleSet -> match(entry, ruleSet, elements))
                     .filter(Objects::nonNull).collect(Collectors.toList()));
 
         }
@@ -87,7 +106,32 @@ public class UtilityClassValidator implements RecommendationValidator, Initializ
         return recommendations;
     }
 
-    Recommendation match(Entry entry, RuleSet ruleSet, List<HTMLElement> elements) {
+    /**
+     * Index of the elements of the bundle, built by the first chunk to ask for it and shared with
+     * the others. It is built again when the elements of the bundle are no longer the same.
+     */
+    ElementIndex index(Bundle bundle) {
+        List<HTMLElement> current = bundle.getInputs().stream()
+                .sequential().map(Input::asElement).filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        try {
+            Elements indexed = indexes.get(bundle, () -> new Elements(current, utilities.index(current)));
+
+            if (indexed.isOf(current)) {
+                return indexed.index;
+            }
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+
+        Elements indexed = new Elements(current, utilities.index(current));
+        indexes.put(bundle, indexed);
+
+        return indexed.index;
+    }
+
+    Recommendation match(Entry entry, RuleSet ruleSet, ElementIndex elements) {
         /**
          * For ruleSet,
          * - determines which utility classes are applicable
@@ -101,11 +145,12 @@ public class UtilityClassValidator implements RecommendationValidator, Initializ
         final Map<Selector, List<HTMLElement>> selectedElements = sort(entry, ruleSet, elements);
 
         Set<Item> items =
-                classes.stream()
-                        .map(utilityClass -> {
-                            List<Style> styles = process(utilityClass, ruleSet);
+                process(ruleSet).entrySet().stream()
+                        .map(match -> {
+                            UtilityClass utilityClass = match.getKey();
+                            List<Style> styles = match.getValue();
 
-                            if (styles.isEmpty() || selectedElements.isEmpty()) {
+                            if (selectedElements.isEmpty()) {
                                 return null;
                             }
 
@@ -139,7 +184,7 @@ public class UtilityClassValidator implements RecommendationValidator, Initializ
 
                                 selectedElements.keySet()
                                         .forEach(selector -> {
-                                            Location start = new Location(selector.line() -1 , selector.column() -1);
+                                            Location start = new Location(ruleSet.getLine(selector), selector.column() -1);
                                             Location end = new Location(start.getLine(), start.getColumn() +
                                                     selector.toString(false).length());
 
@@ -235,35 +280,18 @@ public class UtilityClassValidator implements RecommendationValidator, Initializ
         return information;
     }
 
-    private List<Style> process(UtilityClass utilityClass, RuleSet ruleSet) {
-        final List<UtilityClass.Setting> utilitySettings = utilityClass.getSettings();
-
+    /**
+     * Utility classes whose settings the rule set declares, each with the styles it covers.
+     */
+    private Map<UtilityClass, List<Style>> process(RuleSet ruleSet) {
         List<Style> styles = ruleSet.getStylesWithAnnotationType()
                 .stream().filter(style -> style.getAnnotationType().validate())
-                .filter(style -> utilitySettings.stream().anyMatch(setting -> {
-                    String name = style.getProperty();
-                    String value = style.getValue();
-
-                    String propertyName = setting.getProperty();
-
-                    if (name.contentEquals(propertyName)) {
-                        return tokenUtilities.generatePatterns(setting.getValue())
-                                .stream().anyMatch(pattern -> value.matches(pattern));
-                    }
-
-                    return false;
-                }))
                 .collect(Collectors.toList());
 
-
-        if (utilitySettings.size() !=  styles.size()) {
-            return new ArrayList<>();
-        }
-
-        return styles;
+        return classes.match(styles);
     }
 
-    protected Map<Selector, List<HTMLElement>> sort(Entry entry, RuleSet ruleSet, List<HTMLElement> elements) {
+    protected Map<Selector, List<HTMLElement>> sort(Entry entry, RuleSet ruleSet, ElementIndex elements) {
         Map<Selector, List<HTMLElement>> results = new LinkedHashMap<>();
 
         for (Selector selector : ruleSet.getRule().selectors()) {
@@ -293,5 +321,27 @@ public class UtilityClassValidator implements RecommendationValidator, Initializ
         return setting;
     }
 
+    private static final class Elements {
+        private final List<HTMLElement> elements;
+        private final ElementIndex index;
 
+        Elements(List<HTMLElement> elements, ElementIndex index) {
+            this.elements = elements;
+            this.index = index;
+        }
+
+        boolean isOf(List<HTMLElement> elements) {
+            if (this.elements.size() != elements.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < elements.size(); i++) {
+                if (this.elements.get(i) != elements.get(i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
 }
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.validation.validators.interfaces;
+
+import com.salesforce.slds.shared.models.context.Context;
+import com.salesforce.slds.shared.models.core.Entry;
+import com.salesforce.slds.shared.models.core.HTMLElement;
+import com.salesforce.slds.validation.validators.models.MarkupScope;
+
+/**
+ * A check on single markup elements. All rules of an entry run in one walk over its elements,
+ * see {@link com.salesforce.slds.validation.validators.impl.recommendation.MarkupValidator}.
+ */
+public interface MarkupRule {
+
+    boolean isEnabled(Entry entry, Context context);
+
+    /**
+     * Called for each element of the entry, parents before their children. The scope describes
+     * the ancestors of the element only until this call returns.
+     */
+    void visit(HTMLElement element, MarkupScope scope);
+}
@@ -16,4 +16,13 @@ import java.util.List;
 
 public interface RecommendationValidator extends Validator {
     List<Recommendation> matches(Entry entry, Bundle bundle, Context context);
+
+    /**
+     * Whether validating the inputs of an entry in parts finds the same recommendations as
+     * validating them at once, so the rule sets of a long stylesheet can be split into chunks
+     * validated in parallel.
+     */
+    default boolean isSplittable() {
+        return false;
+    }
 }
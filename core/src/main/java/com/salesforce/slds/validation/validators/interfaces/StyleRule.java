@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.validation.validators.interfaces;
+
+import com.salesforce.slds.shared.models.context.Context;
+import com.salesforce.slds.shared.models.core.Entry;
+import com.salesforce.slds.shared.models.core.Style;
+import com.salesforce.slds.validation.validators.models.StyleScope;
+
+/**
+ * A check on single style declarations. All rules of an entry run in one pass over its
+ * declarations, see {@link com.salesforce.slds.validation.validators.impl.recommendation.StyleValidator}.
+ */
+public interface StyleRule {
+
+    boolean isEnabled(Entry entry, Context context);
+
+    /**
+     * Whether declarations of the property can concern this rule. Asked once per property, the
+     * rule is only visited with declarations of the properties it accepts.
+     */
+    default boolean accepts(String property) {
+        return true;
+    }
+
+    /**
+     * Called for each declaration of the entry, with the annotation type of its rule when the
+     * declaration has none. The scope holds the declaration as written only during this call.
+     */
+    void visit(Style style, StyleScope scope);
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.validation.validators.models;
+
+import com.salesforce.slds.shared.models.context.Context;
+import com.salesforce.slds.shared.models.core.Entry;
+import com.salesforce.slds.shared.models.recommendation.Recommendation;
+import org.jsoup.nodes.Element;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * State of one walk over the elements of an entry: what the ancestors of the current element
+ * are, what is known about the whole document, and the recommendations found so far.
+ */
+public class MarkupScope {
+
+    private final Entry entry;
+    private final Context context;
+
+    private final Set<String> labelTargets = new HashSet<>();
+    private final List<Recommendation> recommendations = new ArrayList<>();
+    private final List<Supplier<Recommendation>> pending = new ArrayList<>();
+
+    private int anchors;
+    private int labels;
+    private int iterations;
+
+    public MarkupScope(Entry entry, Context context) {
+        this.entry = entry;
+        this.context = context;
+    }
+
+    public Entry getEntry() {
+        return entry;
+    }
+
+    public Context getContext() {
+        return context;
+    }
+
+    /**
+     * Whether an ancestor of the current element is an {@code <a>}.
+     */
+    public boolean isInsideAnchor() {
+        return anchors > 0;
+    }
+
+    /**
+     * Whether an ancestor of the current element is a {@code <label>}.
+     */
+    public boolean isInsideLabel() {
+        return labels > 0;
+    }
+
+    /**
+     * Whether an ancestor of the current element repeats its content, like
+     * {@code <aura:iteration>} or an LWC {@code <template for:each>}.
+     */
+    public boolean isInsideIteration() {
+        return iterations > 0;
+    }
+
+    /**
+     * Values of the {@code for} attribute of every label in the entry. Only complete once all
+     * elements were visited, so read it from {@link #addLater(Supplier)}.
+     */
+    public Set<String> getLabelTargets() {
+        return Collections.unmodifiableSet(labelTargets);
+    }
+
+    public void add(Recommendation recommendation) {
+        if (recommendation != null) {
+            recommendations.add(recommendation);
+        }
+    }
+
+    /**
+     * Adds the recommendation, if any, once all elements were visited.
+     */
+    public void addLater(Supplier<Recommendation> recommendation) {
+        pending.add(recommendation);
+    }
+
+    public void enter(Element element) {
+        String tag = element.tagName();
+
+        if (tag.equals("a")) {
+            anchors++;
+        }
+
+        if (tag.equals("label")) {
+            labels++;
+            labelTargets.add(element.attributes().get("for"));
+        }
+
+        if (isIteration(element)) {
+            iterations++;
+        }
+    }
+
+    public void exit(Element element) {
+        String tag = element.tagName();
+
+        if (tag.equals("a")) {
+            anchors--;
+        }
+
+        if (tag.equals("label")) {
+            labels--;
+        }
+
+        if (isIteration(element)) {
+            iterations--;
+        }
+    }
+
+    public List<Recommendation> complete() {
+        for (Supplier<Recommendation> recommendation : pending) {
+            add(recommendation.get());
+        }
+
+        pending.clear();
+
+        return recommendations;
+    }
+
+    private boolean isIteration(Element element) {
+        String tag = element.tagName().toLowerCase();
+
+        if (entry.getEntityType() == Entry.EntityType.AURA) {
+            return tag.contentEquals("aura:iteration");
+        } else if (entry.getEntityType() == Entry.EntityType.LWC) {
+            return tag.contentEquals("template") &&
+                    ((element.hasAttr("for:each") && element.hasAttr("for:item")) || element.hasAttr("iterator:it"));
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.validation.validators.models;
+
+import com.salesforce.slds.shared.converters.Converter;
+import com.salesforce.slds.shared.converters.StateCache;
+import com.salesforce.slds.shared.models.context.Context;
+import com.salesforce.slds.shared.models.core.Entry;
+import com.salesforce.slds.shared.models.core.Style;
+import com.salesforce.slds.shared.models.recommendation.Recommendation;
+
+import java.util.*;
+
+/**
+ * State of one pass over the style declarations of an entry: the declaration being visited,
+ * its value converted by each set of converters the rules asked for, and the recommendations
+ * found so far.
+ */
+public class StyleScope {
+
+    private final Entry entry;
+    private final Context context;
+    private final StateCache stateCache;
+
+    private final List<Recommendation> recommendations = new ArrayList<>();
+
+    // keyed by the converters, compared by identity like the state cache does
+    private final Map<Object, Converter.State> states = new IdentityHashMap<>();
+
+    private Style declaredStyle;
+
+    public StyleScope(Entry entry, Context context, StateCache stateCache) {
+        this.entry = entry;
+        this.context = context;
+        this.stateCache = stateCache;
+    }
+
+    public Entry getEntry() {
+        return entry;
+    }
+
+    public Context getContext() {
+        return context;
+    }
+
+    /**
+     * The current declaration as written, without the annotation type of its rule.
+     */
+    public Style getDeclaredStyle() {
+        return declaredStyle;
+    }
+
+    /**
+     * Value of the current declaration run through the converter, converted at most once per
+     * declaration however many rules ask for it.
+     */
+    public Converter.State getState(Converter converter) {
+        return states.computeIfAbsent(converter, key -> stateCache.get(converter, declaredStyle.getValue()));
+    }
+
+    public Converter.State getState(List<? extends Converter> converters) {
+        return states.computeIfAbsent(converters, key -> stateCache.get(converters, declaredStyle.getValue()));
+    }
+
+    public void add(Recommendation recommendation) {
+        if (recommendation != null) {
+            recommendations.add(recommendation);
+        }
+    }
+
+    public void enter(Style declaredStyle) {
+        this.declaredStyle = declaredStyle;
+        this.states.clear();
+    }
+
+    public List<Recommendation> complete() {
+        declaredStyle = null;
+        states.clear();
+
+        return recommendations;
+    }
+}
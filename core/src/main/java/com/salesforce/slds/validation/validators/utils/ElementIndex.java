@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.validation.validators.utils;
+
+import com.salesforce.slds.shared.models.core.HTMLElement;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.util.*;
+
+/**
+ * The elements of a bundle indexed by class, tag and id, in document order under each root.
+ * Built once and shared by every selector looked up against the same elements.
+ */
+public class ElementIndex {
+
+    private final Map<Element, HTMLElement> mapping = new IdentityHashMap<>();
+    private final List<Root> roots = new ArrayList<>();
+
+    ElementIndex(List<HTMLElement> elements) {
+        for (HTMLElement element : elements) {
+            mapping.put(element.getContent(), element);
+        }
+
+        for (HTMLElement element : elements) {
+            if (isRoot(element.getContent())) {
+                roots.add(new Root(element));
+            }
+        }
+    }
+
+    public List<HTMLElement> getRoots() {
+        List<HTMLElement> results = new ArrayList<>(roots.size());
+
+        for (Root root : roots) {
+            results.add(root.element);
+        }
+
+        return results;
+    }
+
+    HTMLElement get(Element element) {
+        return mapping.get(element);
+    }
+
+    List<Root> roots() {
+        return roots;
+    }
+
+    /**
+     * Only the element a document consists of is a root. Any other element is shorter than its
+     * parent, so the serialized markup is only compared for children of a document.
+     */
+    private static boolean isRoot(Element element) {
+        Element parent = element.parent();
+
+        return parent instanceof Document && parent.outerHtml().contentEquals(element.outerHtml());
+    }
+
+    final class Root {
+        final HTMLElement element;
+        final List<HTMLElement> elements = new ArrayList<>();
+
+        private final Map<String, List<HTMLElement>> byClass = new HashMap<>();
+        private final Map<String, List<HTMLElement>> byTag = new HashMap<>();
+        private final Map<String, List<HTMLElement>> byId = new HashMap<>();
+
+        Root(HTMLElement element) {
+            this.element = element;
+
+            Deque<Element> pending = new ArrayDeque<>();
+            pending.push(element.getContent());
+
+            while (pending.isEmpty() == false) {
+                Element next = pending.pop();
+                add(next);
+
+                List<Element> children = next.children();
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    pending.push(children.get(i));
+                }
+            }
+        }
+
+        private void add(Element content) {
+            HTMLElement element = mapping.get(content);
+
+            if (element == null) {
+                return;
+            }
+
+            elements.add(element);
+            byTag.computeIfAbsent(content.normalName(), key -> new ArrayList<>()).add(element);
+
+            String id = content.id();
+            if (id.isEmpty() == false) {
+                byId.computeIfAbsent(id, key -> new ArrayList<>()).add(element);
+            }
+
+            for (String className : content.classNames()) {
+                byClass.computeIfAbsent(className.toLowerCase(), key -> new ArrayList<>()).add(element);
+            }
+        }
+
+        /**
+         * Elements under this root that can match the compound selector: the shortest of the
+         * lists for its tag, id and classes, in document order.
+         */
+        List<HTMLElement> candidates(String tag, String id, List<String> classNames) {
+            List<HTMLElement> candidates = elements;
+
+            if (tag != null) {
+                candidates = shortest(candidates, byTag.get(tag.toLowerCase()));
+            }
+
+            if (id != null) {
+                candidates = shortest(candidates, byId.get(id));
+            }
+
+            for (String className : classNames) {
+                candidates = shortest(candidates, byClass.get(className.toLowerCase()));
+            }
+
+            return candidates;
+        }
+
+        private List<HTMLElement> shortest(List<HTMLElement> current, List<HTMLElement> next) {
+            if (next == null) {
+                return Collections.emptyList();
+            }
+
+            return next.size() < current.size() ? next : current;
+        }
+    }
+}
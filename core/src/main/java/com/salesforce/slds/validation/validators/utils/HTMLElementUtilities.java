@@ -7,56 +7,102 @@
 
 package com.salesforce.slds.validation.validators.utils;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.salesforce.slds.shared.models.core.Entry;
 import com.salesforce.slds.shared.models.core.HTMLElement;
 import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import org.jsoup.select.Collector;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
 import org.jsoup.select.Selector;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Component
 public class HTMLElementUtilities {
 
+    private final Cache<String, CompiledSelector> selectors = CacheBuilder.newBuilder()
+            .maximumSize(4096).build();
+
+    public ElementIndex index(List<HTMLElement> elements) {
+        return new ElementIndex(elements);
+    }
+
     public List<HTMLElement> select(Entry entry, String selector, List<HTMLElement> elements) {
-        final String query = cleanse(selector);
-        final String componentName = entry.getComponentName();
-
-        Map<Element, HTMLElement> mapping = elements.stream().collect(Collectors.toMap(HTMLElement::getContent, s -> s));
-
-        return elements.stream()
-                .filter(element ->
-                        element.getContent().parent().outerHtml().contentEquals(element.getContent().outerHtml()))
-                .map(element -> {
-                    String internalQuery = cleanseComponentName(query, componentName);
-
-                    if (internalQuery.isEmpty()) {
-                        return element.getContent().children().stream()
-                                .filter(child -> child.tagName().startsWith("aura:") == false)
-                                .map(mapping::get)
-                                .filter(Objects::nonNull).collect(Collectors.toList());
-                    }
+        return select(entry, selector, index(elements));
+    }
 
-                    try {
-                        Elements queryResult = element.getContent().select(internalQuery);
-                        return queryResult.stream().map(mapping::get).filter(Objects::nonNull)
-                                .filter(item -> this.filterDynamicElement(entry.getEntityType(), item, internalQuery))
-                                .collect(Collectors.toList());
-                    } catch (Selector.SelectorParseException ex) {
-                        return new ArrayList<HTMLElement>();
+    /**
+     * Elements under the roots of the index that match the selector. Selectors made of tags,
+     * ids and classes only look at the elements indexed under their last part.
+     */
+    public List<HTMLElement> select(Entry entry, String selector, ElementIndex index) {
+        final String internalQuery = cleanseComponentName(cleanse(selector), entry.getComponentName());
+        List<HTMLElement> results = new ArrayList<>();
+
+        for (ElementIndex.Root root : index.roots()) {
+            if (internalQuery.isEmpty()) {
+                root.element.getContent().children().stream()
+                        .filter(child -> child.tagName().startsWith("aura:") == false)
+                        .map(index::get)
+                        .filter(Objects::nonNull)
+                        .forEach(results::add);
+                continue;
+            }
+
+            CompiledSelector compiled = compile(internalQuery);
+
+            if (compiled.evaluator == null) {
+                continue;
+            }
+
+            Element rootContent = root.element.getContent();
+            List<HTMLElement> selected;
+
+            if (compiled.narrowed) {
+                selected = new ArrayList<>();
+
+                for (HTMLElement candidate : root.candidates(compiled.tag, compiled.id, compiled.classNames)) {
+                    if (compiled.evaluator.matches(rootContent, candidate.getContent())) {
+                        selected.add(candidate);
                     }
-                })
-                .flatMap(List::stream)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+                }
+            } else {
+                selected = Collector.collect(compiled.evaluator, rootContent).stream()
+                        .map(index::get).filter(Objects::nonNull)
+                        .collect(Collectors.toList());
+            }
+
+            for (HTMLElement item : selected) {
+                if (this.filterDynamicElement(entry.getEntityType(), item, internalQuery)) {
+                    results.add(item);
+                }
+            }
+        }
+
+        return results;
+    }
+
+    private CompiledSelector compile(String query) {
+        CompiledSelector compiled = selectors.getIfPresent(query);
+
+        if (compiled == null) {
+            compiled = new CompiledSelector(query);
+            selectors.put(query, compiled);
+        }
+
+        return compiled;
     }
 
     boolean filterDynamicElement(Entry.EntityType type, HTMLElement element, String selector) {
@@ -102,6 +148,66 @@ public class HTMLElementUtilities {
                 .replaceAll("\n", "").trim();
     }
 
+    /**
+     * A parsed selector, which is null when the query is not valid. When the query only uses
+     * tags, ids, classes and descendant or child combinators, the tag, id and classes of its
+     * last compound selector are kept to look up candidates in the index.
+     */
+    static final class CompiledSelector {
+        final Evaluator evaluator;
+        final boolean narrowed;
+        final String tag;
+        final String id;
+        final List<String> classNames;
+
+        CompiledSelector(String query) {
+            Evaluator evaluator;
+
+            try {
+                evaluator = QueryParser.parse(query);
+            } catch (Selector.SelectorParseException ex) {
+                evaluator = null;
+            }
+
+            this.evaluator = evaluator;
+
+            String tag = null;
+            String id = null;
+            List<String> classNames = new ArrayList<>();
+            boolean narrowed = false;
+
+            if (SIMPLE_SELECTOR.matcher(query).matches()) {
+                String[] parts = COMBINATOR.split(query.trim());
+                Matcher compound = COMPOUND_SELECTOR.matcher(parts[parts.length - 1]);
+
+                if (compound.matches()) {
+                    tag = compound.group(1);
+                    Matcher part = SELECTOR_PART.matcher(compound.group(2));
+
+                    while (part.find()) {
+                        if (part.group(1).equals("#")) {
+                            id = part.group(2);
+                        } else {
+                            classNames.add(part.group(2));
+                        }
+                    }
+
+                    narrowed = true;
+                }
+            }
+
+            this.narrowed = narrowed;
+            this.tag = tag;
+            this.id = id;
+            this.classNames = Collections.unmodifiableList(classNames);
+        }
+    }
+
+    private static final Pattern SIMPLE_SELECTOR = Pattern.compile("[\\w\\-.#\\s>]+");
+    private static final Pattern COMBINATOR = Pattern.compile("[\\s>]+");
+    private static final Pattern COMPOUND_SELECTOR = Pattern.compile("([\\w\\-]+)?((?:[.#][\\w\\-]+)*)");
+    private static final Pattern SELECTOR_PART = Pattern.compile("([.#])([\\w\\-]+)");
+
     static final List<String> CHILD_OR_TYPE_PSEUDO_SELECTORS = ImmutableList.of(
        ":first-child", ":first-of-type", ":last-child", ":last-of-type",
        ":nth-child", ":nth-last-child", ":nth-last-of-type", ":nth-of-type",
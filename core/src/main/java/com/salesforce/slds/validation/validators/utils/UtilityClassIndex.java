@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.validation.validators.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.salesforce.slds.shared.models.core.Style;
+import com.salesforce.slds.shared.utils.TokenUtilities;
+import com.salesforce.slds.tokens.models.UtilityClass;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
+
+/**
+ * Utility classes indexed by the properties they set. The value patterns of a setting are
+ * compiled the first time a declaration of its property is checked, and which classes accept
+ * a given property and value is remembered, so matching a rule set takes one lookup per
+ * declaration and a count per class.
+ */
+public class UtilityClassIndex {
+
+    public static final int DEFAULT_SIZE = 4096;
+
+    private final List<UtilityClass> classes;
+    private final TokenUtilities tokenUtilities;
+
+    private final Map<String, List<Setting>> settingsByProperty = new HashMap<>();
+    private final Cache<Declaration, int[]> classesByDeclaration;
+
+    public UtilityClassIndex(List<UtilityClass> classes, TokenUtilities tokenUtilities) {
+        this(classes, tokenUtilities, DEFAULT_SIZE);
+    }
+
+    public UtilityClassIndex(List<UtilityClass> classes, TokenUtilities tokenUtilities, int size) {
+        this.classes = Collections.unmodifiableList(new ArrayList<>(classes));
+        this.tokenUtilities = tokenUtilities;
+        this.classesByDeclaration = CacheBuilder.newBuilder().maximumSize(size).build();
+
+        for (int position = 0; position < this.classes.size(); position++) {
+            List<UtilityClass.Setting> settings = this.classes.get(position).getSettings();
+
+            if (settings == null) {
+                continue;
+            }
+
+            for (UtilityClass.Setting setting : settings) {
+                if (setting.getProperty() != null && setting.getValue() != null) {
+                    settingsByProperty.computeIfAbsent(setting.getProperty(), key -> new ArrayList<>())
+                            .add(new Setting(position, setting.getValue()));
+                }
+            }
+        }
+    }
+
+    public List<UtilityClass> getClasses() {
+        return classes;
+    }
+
+    /**
+     * Utility classes that can replace declarations of the styles, in the order of
+     * {@link #getClasses()}, each with the styles it covers. A class applies when as many
+     * styles match one of its settings as it has settings.
+     */
+    public Map<UtilityClass, List<Style>> match(List<Style> styles) {
+        Map<Integer, List<Style>> stylesByClass = new TreeMap<>();
+
+        for (Style style : styles) {
+            for (int position : getClasses(style.getProperty(), style.getValue())) {
+                stylesByClass.computeIfAbsent(position, key -> new ArrayList<>()).add(style);
+            }
+        }
+
+        Map<UtilityClass, List<Style>> results = new LinkedHashMap<>();
+
+        stylesByClass.forEach((position, matched) -> {
+            UtilityClass utilityClass = classes.get(position);
+
+            if (utilityClass.getSettings().size() == matched.size()) {
+                results.put(utilityClass, matched);
+            }
+        });
+
+        return results;
+    }
+
+    /**
+     * Positions of the classes with a setting for the property whose value patterns accept
+     * the value, ascending.
+     */
+    int[] getClasses(String property, String value) {
+        List<Setting> settings = settingsByProperty.get(property);
+
+        if (settings == null) {
+            return new int[0];
+        }
+
+        try {
+            return classesByDeclaration.get(new Declaration(property, value), () -> {
+                int[] positions = new int[settings.size()];
+                int count = 0;
+
+                for (Setting setting : settings) {
+                    boolean added = count > 0 && positions[count - 1] == setting.position;
+
+                    if (added == false && setting.accepts(value)) {
+                        positions[count++] = setting.position;
+                    }
+                }
+
+                return Arrays.copyOf(positions, count);
+            });
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private final class Setting {
+        private final int position;
+        private final String value;
+
+        private volatile List<Pattern> patterns;
+
+        Setting(int position, String value) {
+            this.position = position;
+            this.value = value;
+        }
+
+        boolean accepts(String declared) {
+            for (Pattern pattern : getPatterns()) {
+                if (pattern.matcher(declared).matches()) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private List<Pattern> getPatterns() {
+            List<Pattern> patterns = this.patterns;
+
+            if (patterns == null) {
+                patterns = new ArrayList<>();
+
+                for (String pattern : tokenUtilities.generatePatterns(value)) {
+                    patterns.add(Pattern.compile(pattern));
+                }
+
+                this.patterns = patterns;
+            }
+
+            return patterns;
+        }
+    }
+
+    private static final class Declaration {
+        private final String property;
+        private final String value;
+
+        Declaration(String property, String value) {
+            this.property = property;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Declaration that = (Declaration) o;
+
+            return property.equals(that.property) && value.equals(that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * property.hashCode() + value.hashCode();
+        }
+    }
+}
@@ -7,14 +7,13 @@
 
 package org.jsoup.parser;
 
-import com.google.common.collect.Lists;
 import com.salesforce.slds.shared.models.core.HTMLElement;
+import com.salesforce.slds.shared.models.locations.LineIndex;
 import com.salesforce.slds.shared.models.locations.Location;
 import com.salesforce.slds.shared.models.locations.Range;
 import org.jsoup.nodes.Attributes;
 import org.jsoup.nodes.Element;
 import org.jsoup.nodes.Node;
-import org.springframework.util.StringUtils;
 
 import java.util.List;
 import java.util.Stack;
@@ -38,13 +37,11 @@ public class LightningTreeBuilder extends XmlTreeBuilder {
         }
     }
 
-    private final List<String> raw;
-    private final String html;
+    private final LineIndex raw;
     private final Stack<Token> skipStack = new Stack<>();
 
     public LightningTreeBuilder(List<String> raw) {
-        this.raw = raw;
-        this.html = StringUtils.collectionToDelimitedString(raw, System.lineSeparator());
+        this.raw = LineIndex.of(raw);
     }
 
     @Override
@@ -124,48 +121,26 @@ public class LightningTreeBuilder extends XmlTreeBuilder {
         return el;
     }
 
+    /**
+     * Takes the offsets of the tag from the tokenizer, which records where each token starts and
+     * ends, so no search through the markup is needed. An end tag without a start tag starts
+     * where it is.
+     */
     private void updateLocation(ElementWithPosition element, Token.Tag tag) {
-        int position = this.reader.pos();
-
-        if (tag instanceof Token.StartTag) {
-            int marker = this.html.lastIndexOf(tag.name(), position);
-            int startTagSymbol = this.html.lastIndexOf("<", marker);
-
-            element.startPosition = startTagSymbol;
+        if (tag instanceof Token.StartTag || element.startPosition == -1) {
+            element.startPosition = tag.startPos();
             element.start = convertPositionToLocation(element.startPosition);
         }
 
         if (tag instanceof Token.EndTag || tag.isSelfClosing()) {
-            element.endPosition = position;
+            element.endPosition = tag.endPos();
             element.end = convertPositionToLocation(element.endPosition);
-
-            if (element.startPosition == -1) {
-                updateLocation(element, new Token.StartTag().name(settings.normalizeTag(tag.tagName)));
-            }
-
-            element.raw = Lists.newArrayList(
-                    this.html.substring(element.startPosition, element.endPosition).split(System.lineSeparator()));
+            element.raw = this.raw.getLines(new Range(element.start, element.end));
         }
     }
 
     private Location convertPositionToLocation(int position) {
-        int line = 0;
-        int col = 0;
-
-        while (position > 0) {
-            int lineLength = this.raw.get(line).length();
-
-            if (lineLength >= position) {
-                col = position;
-            } else {
-                line++;
-                position -= System.lineSeparator().length();
-            }
-
-            position -= lineLength;
-        }
-
-        return new Location(line, col);
+        return this.raw.getLocation(position);
     }
 
     protected void insertNode(Node node) {
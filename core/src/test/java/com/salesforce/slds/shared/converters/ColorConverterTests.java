@@ -11,8 +11,14 @@ import com.salesforce.slds.shared.converters.colors.ColorType;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -73,4 +79,45 @@ public class ColorConverterTests {
         values = actual.next();
         assertThat(values, Matchers.containsInAnyOrder(AQUA_EXPECTED_VALUES));
     }
+
+    @Test
+    public void testCanonical() {
+        CanonicalValue red = canonical("#ff0000");
+
+        assertThat(red.matches(canonical("red")), Matchers.is(true));
+        assertThat(red.matches(canonical("rgb(255, 0, 0)")), Matchers.is(true));
+        assertThat(red.matches(canonical("hsl(0, 100%, 50%)")), Matchers.is(true));
+        assertThat(red.matches(canonical("rgba(255, 0, 0, 1)")), Matchers.is(true));
+        assertThat(red.matches(canonical("rgba(255, 0, 0, 0.5)")), Matchers.is(false));
+        assertThat(red.matches(canonical("#fe0000")), Matchers.is(false));
+    }
+
+    /**
+     * Every colour in colors.json, spelled in each of the supported notations, must convert to
+     * exactly the spellings recorded in colors.golden, in the same order.
+     */
+    @Test
+    public void testGolden() throws Exception {
+        List<String> lines;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getResourceAsStream("/shared/converters/colors.golden"), StandardCharsets.UTF_8))) {
+            lines = reader.lines().collect(Collectors.toList());
+        }
+
+        assertThat(lines, Matchers.hasSize(Matchers.greaterThan(148 * 4)));
+
+        for (String line : lines) {
+            List<String> golden = Arrays.asList(line.split("\t"));
+            Converter.State state = converters.process(Converter.State.builder().input(golden.get(0)).build());
+
+            assertThat(line, state.getValues().values().iterator().next(),
+                    Matchers.contains(golden.subList(1, golden.size()).toArray()));
+        }
+    }
+
+    private CanonicalValue canonical(String value) {
+        Converter.State state = converters.process(Converter.State.builder().input(value).build());
+        return state.getCanonicalValue(state.getLocations().get(0));
+    }
 }
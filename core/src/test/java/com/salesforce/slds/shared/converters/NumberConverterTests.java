@@ -11,6 +11,8 @@ import com.salesforce.slds.shared.converters.numbers.NumberType;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
 import java.util.Iterator;
 import java.util.Set;
 
@@ -79,4 +81,65 @@ public class NumberConverterTests {
         values = results.next();
         assertThat(values, Matchers.containsInAnyOrder("12"));
     }
+
+    @Test
+    public void testCanonical() {
+        CanonicalValue length = canonical("13px");
+
+        assertThat(length.getPx(), Matchers.is(13.0));
+        assertThat(length.matches(canonical("0.8125rem")), Matchers.is(true));
+        assertThat(length.matches(canonical("0.812rem")), Matchers.is(true));
+        assertThat(length.matches(canonical("9.75pt")), Matchers.is(true));
+        assertThat(length.matches(canonical("81.25%")), Matchers.is(true));
+        assertThat(length.matches(canonical("-13px")), Matchers.is(false));
+        assertThat(length.matches(canonical("13.1px")), Matchers.is(false));
+
+        assertThat(canonical("0").matches(canonical("-0rem")), Matchers.is(true));
+        assertThat(canonical("12"), Matchers.nullValue());
+        assertThat(canonical("12vw"), Matchers.nullValue());
+    }
+
+    @Test
+    public void testValueForm() {
+        ValueForm form = form("0 1rem 2px solid");
+
+        assertThat(form.matches(form("0px 16px 0.125rem solid")), Matchers.is(true));
+        assertThat(form.matches(form("0 16px 0.125rem dashed")), Matchers.is(false));
+        assertThat(form.matches(form("0 16px 0.25rem solid")), Matchers.is(false));
+        assertThat(form.matches(form("1.5 16px 0.125rem solid")), Matchers.is(false));
+    }
+
+    @Test
+    public void testFormat() {
+        DecimalFormat length = new DecimalFormat();
+        length.setMaximumFractionDigits(3);
+        length.setMinimumFractionDigits(0);
+
+        DecimalFormat color = new DecimalFormat();
+        color.setMaximumFractionDigits(2);
+        color.setRoundingMode(RoundingMode.HALF_DOWN);
+
+        double[] values = {0, -0.0, 1, -1, 999, -999, 1000, 1600, 12345.6789, 0.0625, 0.8125, 0.0005, 0.0015,
+                81.25, 9.75, 0.555f, 45.09804f, 73.91304f, Double.NaN, Double.POSITIVE_INFINITY};
+
+        for (double value : values) {
+            assertThat(FixedPrecisionFormat.LENGTH.format(value), Matchers.is(length.format(value)));
+            assertThat(FixedPrecisionFormat.COLOR.format(value), Matchers.is(color.format(value)));
+        }
+
+        for (int i = -2000; i <= 2000; i++) {
+            assertThat(FixedPrecisionFormat.LENGTH.format(i / 16.0), Matchers.is(length.format(i / 16.0)));
+            assertThat(FixedPrecisionFormat.LENGTH.format(i * 0.75), Matchers.is(length.format(i * 0.75)));
+            assertThat(FixedPrecisionFormat.COLOR.format(i / 7f), Matchers.is(color.format(i / 7f)));
+        }
+    }
+
+    private CanonicalValue canonical(String value) {
+        Converter.State state = converters.process(Converter.State.builder().input(value).build());
+        return state.getCanonicalValue(state.getLocations().get(0));
+    }
+
+    private ValueForm form(String value) {
+        return ValueForm.of(converters.process(Converter.State.builder().input(value).build()));
+    }
 }
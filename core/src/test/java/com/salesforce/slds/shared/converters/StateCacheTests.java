@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.converters;
+
+import com.salesforce.slds.shared.converters.numbers.NumberType;
+import com.salesforce.slds.shared.converters.tokens.TokenType;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StateCacheTests {
+
+    private final TypeConverters numbers = new TypeConverters(NumberType.get());
+    private final TypeConverters tokens = new TypeConverters(TokenType.get());
+
+    @Test
+    public void hitsAndMisses() {
+        StateCache cache = new StateCache();
+
+        Converter.State state = cache.get(numbers, "16px");
+        assertThat(cache.get(numbers, "16px"), Matchers.sameInstance(state));
+        assertThat(cache.get(tokens, "16px"), Matchers.not(Matchers.sameInstance(state)));
+        assertThat(cache.get(new TypeConverters(NumberType.get()), "16px"), Matchers.not(Matchers.sameInstance(state)));
+
+        assertThat(cache.getHitCount(), Matchers.is(1L));
+        assertThat(cache.getMissCount(), Matchers.is(3L));
+
+        Set<String> values = state.getValues().values().iterator().next();
+        assertThat(values, Matchers.containsInAnyOrder("1rem", "1em", "16px", "100%", "12pt"));
+    }
+
+    @Test
+    public void bounded() {
+        StateCache cache = new StateCache(10);
+
+        IntStream.range(0, 100).forEach(i -> cache.get(numbers, i + "px"));
+
+        assertThat(cache.size(), Matchers.lessThanOrEqualTo(10L));
+    }
+
+    @Test
+    public void frozen() {
+        Converter.State state = new StateCache().get(numbers, "16px 1rem");
+        Matcher matcher = Pattern.compile("16px").matcher(state.getInput());
+        matcher.find();
+
+        assertThat(state.isFrozen(), Matchers.is(true));
+        assertThrows(IllegalStateException.class, () -> state.addValues(matcher, "16px"));
+        assertThrows(UnsupportedOperationException.class, () -> state.getValues().clear());
+        assertThrows(UnsupportedOperationException.class, () ->
+                state.getValues().values().iterator().next().add("2px"));
+    }
+
+    @Test
+    public void shared() throws Exception {
+        StateCache cache = new StateCache();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<Converter.State>> states = IntStream.range(0, 32)
+                    .mapToObj(i -> executor.submit(() -> cache.get(numbers, "0 1px 2px 3px")))
+                    .collect(Collectors.toList());
+
+            Converter.State expected = states.get(0).get();
+            for (Future<Converter.State> state : states) {
+                assertThat(state.get(), Matchers.sameInstance(expected));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(cache.getHitCount() + cache.getMissCount(), Matchers.is(32L));
+        assertThat(cache.size(), Matchers.is(1L));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.converters;
+
+import com.salesforce.slds.shared.converters.Converter.State.Location;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StateTests {
+
+    @Test
+    public void nestedLocationsAreDropped() {
+        Converter.State state = new Converter.State("abcdef");
+
+        add(state, 1, 3, "inner");
+        add(state, 0, 6, "outer");
+        add(state, 2, 4, "nested");
+        add(state, 0, 2, "prefix");
+
+        assertThat(state.getLocations(), Matchers.contains(Location.create(0, 2), Location.create(0, 6)));
+        assertThat(state.getValues(Location.create(1, 3)), Matchers.empty());
+        assertThat(state.getValues(Location.create(0, 6)), Matchers.contains("outer"));
+    }
+
+    @Test
+    public void locationsAreOrdered() {
+        Converter.State state = new Converter.State("a b c d");
+
+        add(state, 6, 7, "d");
+        add(state, 2, 3, "b");
+        add(state, 0, 1, "a");
+        add(state, 4, 5, "c");
+        add(state, 2, 3, "B");
+
+        assertThat(state.getLocations().stream().map(Location::getStart).collect(Collectors.toList()),
+                Matchers.contains(0, 2, 4, 6));
+        assertThat(state.getValues().get(Location.create(2, 3)), Matchers.contains("b", "B"));
+    }
+
+    @Test
+    public void deferredSpellings() {
+        Converter.State state = new Converter.State("1px");
+        Matcher matcher = matcher(state, 0, 3);
+
+        state.addValues(matcher, null, () -> Collections.singleton("1px"));
+        state.addValues(matcher, null, () -> Collections.singleton("0.0625rem"));
+
+        assertThat(state.getValues(Location.create(0, 3)), Matchers.contains("1px", "0.0625rem"));
+    }
+
+    @Test
+    public void readOnlyViews() {
+        Converter.State state = new Converter.State("abc");
+        add(state, 0, 3, "abc");
+
+        assertThrows(UnsupportedOperationException.class, () -> state.getValues().clear());
+        assertThrows(UnsupportedOperationException.class, () ->
+                state.getValues(Location.create(0, 3)).add("def"));
+    }
+
+    @Test
+    public void manyLocations() {
+        int size = 20000;
+        String input = String.join(" ", Collections.nCopies(size, "x"));
+        Converter.State state = new Converter.State(input);
+
+        // added in reverse, so every insert lands before the locations already there
+        IntStream.range(0, size).map(i -> size - 1 - i).forEach(i -> {
+            add(state, 2 * i, 2 * i + 1, "x");
+            state.getValues();
+        });
+
+        assertThat(state.getLocations(), Matchers.hasSize(size));
+        assertThat(state.getLocations(), Matchers.is(IntStream.range(0, size)
+                .mapToObj(i -> Location.create(2 * i, 2 * i + 1)).collect(Collectors.toList())));
+        assertThat(state.getValues(Location.create(2 * (size - 1), 2 * size - 1)), Matchers.contains("x"));
+    }
+
+    private static void add(Converter.State state, int start, int end, String value) {
+        state.addValues(matcher(state, start, end), value);
+    }
+
+    private static Matcher matcher(Converter.State state, int start, int end) {
+        Matcher matcher = Pattern.compile(".+").matcher(state.getInput());
+        matcher.region(start, end);
+        matcher.lookingAt();
+        return matcher;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.converters;
+
+import com.salesforce.slds.tokens.models.DesignToken;
+import com.salesforce.slds.tokens.models.UtilityClass;
+import com.salesforce.slds.tokens.registry.TokenRegistryImpl;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TypeConvertersTests {
+
+    private final TypeConverters converters = new TypeConverters();
+
+    @Test
+    public void lexerMatchesScanning() throws Exception {
+        Set<String> values = declarations();
+        values.addAll(Arrays.asList("0 t(spacingXSmall) 0 t(spacingXSmall)", ".82500 rem", "-1px +2px",
+                "a-1px", "10 solid", "--1px", "1e5px", "T(colorBorder) TOKEN(colorBorder)",
+                "VAR(--lwc-colorBorder, #fff)", "rgb(0, 0, 0) rgba(0, 0, 0, 0.5) hsl(0, 0%, 0%)",
+                "#123456789 #abc", "format(foo)", "1.px .5em 50.%", "red2px blue", ""));
+
+        for (String value : values) {
+            Converter.State lexed = converters.process(Converter.State.builder().input(value).build());
+            Converter.State scanned = converters.processByScanning(Converter.State.builder().input(value).build());
+
+            assertThat(value, lexed.getValues(), Matchers.equalTo(scanned.getValues()));
+        }
+    }
+
+    @Test
+    public void tokenize() {
+        List<ValueToken> tokens = ValueLexer.tokenize("1px t(x) #fff 50%");
+
+        assertThat(tokens.toString(), Matchers.equalTo(
+                "[IDENT[0, 3), DIMENSION[0, 1), AURA_TOKEN[4, 6), IDENT[4, 5), IDENT[6, 7), " +
+                        "COLOR[9, 13), IDENT[10, 13), IDENT[14, 16), PERCENTAGE[14, 16)]"));
+    }
+
+    private static Set<String> declarations() throws Exception {
+        TokenRegistryImpl registry = new TokenRegistryImpl();
+        registry.afterPropertiesSet();
+
+        Set<String> values = new LinkedHashSet<>();
+
+        for (DesignToken token : registry.getDesignTokens()) {
+            if (token.getValue() != null) {
+                values.add(token.getValue());
+            }
+        }
+
+        for (UtilityClass utilityClass : registry.getUtilityClasses()) {
+            if (utilityClass.getSettings() != null) {
+                utilityClass.getSettings().stream()
+                        .filter(setting -> setting.getValue() != null)
+                        .forEach(setting -> values.add(setting.getValue()));
+            }
+        }
+
+        return values;
+    }
+}
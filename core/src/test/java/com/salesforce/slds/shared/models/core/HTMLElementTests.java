@@ -83,6 +83,21 @@ public class HTMLElementTests {
                 Matchers.is(createRange(0, 27, 0, 37)));
     }
 
+    @Test
+    @DisplayName("Classes are indexed once when the element is parsed")
+    public void indexedClasses() {
+        List<HTMLElement> elements = MarkupParser.parse("component.cmp",
+                Arrays.asList("<div", "  title=\"class\"", "  class=\"slds-grid  slds-grid slds-wrap\">", "</div>",
+                        "<span/>"));
+
+        Map<String, Range> results = elements.get(0).getClasses();
+
+        assertThat(elements.get(0).getClasses(), Matchers.sameInstance(results));
+        assertThat(results.keySet(), Matchers.contains("slds-grid", "slds-wrap"));
+        assertThat(results.get("slds-wrap"), Matchers.is(createRange(2, 30, 2, 39)));
+        assertThat(elements.get(1).getClasses(), Matchers.anEmptyMap());
+    }
+
     private Range createRange(int startLine, int startColumn, int endLine, int endColumn) {
         return new Range(new Location(startLine, startColumn),
                 new Location(endLine, endColumn));
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.models.locations;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class LineIndexTests {
+
+    private static final String SEPARATOR = System.lineSeparator();
+
+    @Test
+    public void offsets() {
+        LineIndex index = LineIndex.of(Arrays.asList("ab", "", "cde"));
+
+        assertThat(index.getText(), Matchers.is("ab" + SEPARATOR + SEPARATOR + "cde"));
+        assertThat(index.getLength(), Matchers.is(index.getText().length()));
+
+        for (int offset = 0; offset <= index.getLength(); offset++) {
+            Location location = index.getLocation(offset);
+
+            assertThat(index.getOffset(location), Matchers.is(offset));
+            assertThat(location.getColumn(), Matchers.lessThanOrEqualTo(
+                    index.get(location.getLine()).length() + SEPARATOR.length() - 1));
+        }
+
+        assertThat(index.getLocation(2), Matchers.is(new Location(0, 2)));
+        assertThat(index.getLocation(2 + SEPARATOR.length()), Matchers.is(new Location(1, 0)));
+        assertThat(index.getLocation(index.getLength()), Matchers.is(new Location(2, 3)));
+    }
+
+    @Test
+    public void substrings() {
+        LineIndex index = LineIndex.of(Arrays.asList(".a {", "  color: red;", "}"));
+
+        int offset = index.indexOf("red", 0);
+
+        assertThat(index.getLocation(offset), Matchers.is(new Location(1, 9)));
+        assertThat(index.substring(new Range(new Location(1, 2), new Location(1, 7))), Matchers.is("color"));
+        assertThat(index.indexOf("blue", 0), Matchers.is(-1));
+    }
+
+    @Test
+    public void lines() {
+        LineIndex index = LineIndex.of(Arrays.asList("<a>", "  <b>", "", "  </b></a>"));
+
+        assertThat(index.getLines(new Range(new Location(1, 2), new Location(3, 6))),
+                Matchers.contains("<b>", "", "  </b>"));
+        assertThat(index.getLines(new Range(new Location(0, 0), new Location(0, 3))),
+                Matchers.contains("<a>"));
+    }
+
+    @Test
+    public void sharedWithLines() {
+        List<String> lines = Arrays.asList("a", "b");
+        LineIndex index = LineIndex.of(lines);
+
+        assertThat(index, Matchers.is(lines));
+        assertThat(LineIndex.of(index), Matchers.sameInstance(index));
+        assertThat(LineIndex.of(Arrays.asList()).getLocation(0), Matchers.is(new Location(0, 0)));
+    }
+}
@@ -20,8 +20,11 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -85,4 +88,81 @@ public class CSSParserTest {
         assertThat(actual.getRange(),
                 Matchers.is(new Range(new Location(12, 0), new Location(14, 1))));
     }
+
+    @Test
+    public void styleViews() {
+        RuleSet ruleSet = rules.stream()
+                .filter(r -> r.toString().contains("doubleDeclaration"))
+                .findFirst().get();
+
+        assertThat(ruleSet.getStyles(), Matchers.sameInstance(ruleSet.getStyles()));
+
+        Style style = ruleSet.getStyles().get(0);
+        Style annotated = ruleSet.getStylesWithAnnotationType().get(0);
+
+        assertThat(annotated.getRange(), Matchers.sameInstance(style.getRange()));
+        assertThat(annotated.getProperty(), Matchers.is(style.getProperty()));
+
+        Style shifted = ruleSet.shift(3).getStyles().get(0);
+        assertThat(shifted.getRange(),
+                Matchers.is(new Range(new Location(9, 4), new Location(9, 66))));
+    }
+
+    @Test
+    public void chunks() throws Exception {
+        List<List<String>> corpus = new ArrayList<>();
+
+        for (String name : new String[] {"/css/location.css", "/css/chunks.css"}) {
+            List<String> lines = Files.readAllLines(Paths.get(CSSParserTest.class.getResource(name).toURI()));
+            corpus.add(lines);
+            corpus.add(repeat(lines, 40));
+        }
+
+        for (List<String> lines : corpus) {
+            List<RuleSet> expected = CSSParser.parseInChunks(lines, Integer.MAX_VALUE);
+
+            for (int chunkLines : new int[] {1, 7, 100}) {
+                assertSameRuleSets(CSSParser.parseInChunks(lines, chunkLines), expected);
+            }
+        }
+    }
+
+    @Test
+    public void largeStylesheet() throws Exception {
+        List<String> lines = repeat(Files.readAllLines(
+                Paths.get(CSSParserTest.class.getResource("/css/chunks.css").toURI())), 400);
+        assertThat(lines.size(), Matchers.greaterThanOrEqualTo(CSSParser.PARALLEL_THRESHOLD));
+
+        List<RuleSet> expected = CSSParser.parseInChunks(lines, Integer.MAX_VALUE);
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertSameRuleSets(CSSParser.parse(lines), expected);
+            // from a task of another pool, the chunks are parsed on that pool
+            assertSameRuleSets(pool.submit(() -> CSSParser.parse(lines)).get(), expected);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void assertSameRuleSets(List<RuleSet> actual, List<RuleSet> expected) {
+        assertThat(actual, Matchers.hasSize(expected.size()));
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).toString(), Matchers.is(expected.get(i).toString()));
+            assertThat(actual.get(i).getRange(), Matchers.is(expected.get(i).getRange()));
+            assertThat(actual.get(i).getStylesWithAnnotationType(),
+                    Matchers.is(expected.get(i).getStylesWithAnnotationType()));
+        }
+    }
+
+    private static List<String> repeat(List<String> lines, int times) {
+        List<String> repeated = new ArrayList<>();
+
+        for (int i = 0; i < times; i++) {
+            repeated.addAll(lines);
+        }
+
+        return repeated;
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.parsers;
+
+import com.salesforce.slds.shared.models.core.RuleSet;
+import com.salesforce.slds.shared.parsers.css.CSSParser;
+import com.salesforce.slds.shared.parsers.css.IncrementalCSSParser;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class IncrementalCSSParserTest {
+
+    private static final String PATH = "file:///component/component.css";
+
+    @Test
+    public void edits() throws Exception {
+        URL resource = IncrementalCSSParserTest.class.getResource("/css/location.css");
+        List<String> lines = new ArrayList<>(Files.readAllLines(Paths.get(resource.toURI())));
+        lines.add("");
+        lines.add("/* sldsValidatorIgnoreNextLine */");
+        lines.add(".THIS .comment { /* } */ content: \"{\"; }");
+        lines.add("@media (max-width: 100px) {");
+        lines.add("    .THIS .media { margin: 0.5rem; }");
+        lines.add("}");
+
+        IncrementalCSSParser parser = new IncrementalCSSParser();
+        assertSame(parser.parse(PATH, lines), lines);
+
+        lines.set(6, "    padding: 1rem;");
+        assertSame(parser.parse(PATH, lines), lines);
+
+        lines.add(0, "");
+        lines.add(0, ".THIS .first { color: red; }");
+        assertSame(parser.parse(PATH, lines), lines);
+
+        lines.remove(12);
+        lines.remove(12);
+        assertSame(parser.parse(PATH, lines), lines);
+
+        lines.set(2, ".THIS thead, .THIS .open {");
+        lines.remove(3);
+        assertSame(parser.parse(PATH, lines), lines);
+    }
+
+    @Test
+    public void reuse() {
+        List<String> lines = stylesheet(100);
+        IncrementalCSSParser parser = new IncrementalCSSParser();
+
+        List<RuleSet> first = parser.parse(PATH, lines);
+
+        lines.set(5 * 50 + 1, "    color: #000;");
+        List<RuleSet> second = parser.parse(PATH, lines);
+
+        assertSame(second, lines);
+        assertThat(second.get(0), Matchers.sameInstance(first.get(0)));
+        assertThat(second.get(49), Matchers.sameInstance(first.get(49)));
+        assertThat(second.get(50), Matchers.not(Matchers.sameInstance(first.get(50))));
+        assertThat(second.get(51), Matchers.sameInstance(first.get(51)));
+
+        lines.add(0, ".THIS .first { color: red; }");
+        List<RuleSet> third = parser.parse(PATH, lines);
+
+        assertSame(third, lines);
+        assertThat(third.get(1).getRule(), Matchers.sameInstance(second.get(0).getRule()));
+        assertThat(third.get(100).getRule(), Matchers.sameInstance(second.get(99).getRule()));
+    }
+
+    @Test
+    public void firstParse() {
+        List<String> lines = stylesheet(200);
+        IncrementalCSSParser parser = new IncrementalCSSParser();
+
+        List<RuleSet> first = parser.parse(PATH, lines);
+
+        assertSame(first, lines);
+        // parsed in one go, so every rule belongs to the same stylesheet
+        assertThat(first.stream().map(ruleSet -> ruleSet.getRule().parent()).distinct().count(), Matchers.is(1L));
+
+        lines.set(5 * 100 + 2, "    margin: 2rem;");
+        List<RuleSet> second = parser.parse(PATH, lines);
+
+        assertSame(second, lines);
+        assertThat(second.get(0), Matchers.sameInstance(first.get(0)));
+        assertThat(second.get(100), Matchers.not(Matchers.sameInstance(first.get(100))));
+        assertThat(second.get(199), Matchers.sameInstance(first.get(199)));
+
+        parser.remove(PATH);
+        List<RuleSet> third = parser.parse(PATH, lines);
+
+        assertSame(third, lines);
+        assertThat(third.get(0), Matchers.not(Matchers.sameInstance(second.get(0))));
+    }
+
+    private static List<String> stylesheet(int rules) {
+        List<String> lines = new ArrayList<>();
+
+        for (int i = 0; i < rules; i++) {
+            lines.add(".THIS .rule" + i + " {");
+            lines.add("    color: #fff;");
+            lines.add("    margin: 1rem;");
+            lines.add("}");
+            lines.add("");
+        }
+
+        return lines;
+    }
+
+    private static void assertSame(List<RuleSet> actual, List<String> lines) {
+        List<RuleSet> expected = CSSParser.parse(lines);
+
+        assertThat(actual, Matchers.hasSize(expected.size()));
+
+        for (int i = 0; i < expected.size(); i++) {
+            RuleSet expectedRuleSet = expected.get(i);
+            RuleSet actualRuleSet = actual.get(i);
+
+            assertThat(actualRuleSet.toString(), Matchers.is(expectedRuleSet.toString()));
+            assertThat(actualRuleSet.getRange(), Matchers.is(expectedRuleSet.getRange()));
+            assertThat(actualRuleSet.getStyles(), Matchers.is(expectedRuleSet.getStyles()));
+            assertThat(actualRuleSet.getStylesWithAnnotationType(),
+                    Matchers.is(expectedRuleSet.getStylesWithAnnotationType()));
+            assertThat(actualRuleSet.getLine(actualRuleSet.getRule()),
+                    Matchers.is(expectedRuleSet.getRule().line() - 1));
+        }
+    }
+}
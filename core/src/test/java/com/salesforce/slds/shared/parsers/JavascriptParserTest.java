@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.parsers;
+
+import com.salesforce.slds.shared.models.core.Block;
+import com.salesforce.slds.shared.models.locations.LineIndex;
+import com.salesforce.slds.shared.parsers.javascript.JavascriptParser;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class JavascriptParserTest {
+
+    private static final String PATH = "file:///component/component.js";
+
+    private static final Pattern SLDS = Pattern.compile("slds-[^\\s\"';.,:)\\[`$]*");
+
+    @Test
+    public void literals() {
+        List<String> lines = Arrays.asList(
+                "// 'slds-comment'",
+                "/* \"slds-block-comment\" */",
+                "const pattern = /['\"`]slds-regex/g;",
+                "const half = width / 2 / 'slds-after-division'.length;",
+                "const quoted = \"slds-double \\\" slds-escaped\";",
+                "const nested = `slds-m-${size} ${flag ? `slds-inner-${ { a: 'slds-object' }.a }` : ''} slds-tail`;",
+                "export default class { get css() { return 'slds-p-top_none'; } }");
+
+        List<Block> blocks = JavascriptParser.parse(PATH, lines);
+        LineIndex index = LineIndex.of(lines);
+
+        assertThat(blocks.stream().map(Block::getValue).collect(Collectors.toList()), Matchers.contains(
+                "slds-after-division",
+                "slds-double \\\" slds-escaped",
+                "slds-m-",
+                "slds-inner-",
+                "slds-object",
+                " slds-tail",
+                "slds-p-top_none"));
+
+        for (Block block : blocks) {
+            String value = block.getValue();
+            assertThat(index.substring(block.getOffset(), block.getOffset() + value.length()), Matchers.is(value));
+            assertThat(block.getLineNumber(), Matchers.is(index.getLocation(block.getOffset()).getLine() + 1));
+        }
+    }
+
+    @Test
+    public void withoutClasses() {
+        List<String> lines = Arrays.asList("export default class {", "    label = 'slds';", "}");
+
+        assertThat(JavascriptParser.parse(PATH, lines), Matchers.empty());
+    }
+
+    @Test
+    public void fallback() {
+        List<String> lines = Arrays.asList("const unterminated = 'slds-button", "    + ';");
+
+        List<Block> blocks = JavascriptParser.parse(PATH, lines);
+
+        assertThat(blocks, Matchers.hasSize(1));
+        assertThat(blocks.get(0).getOffset(), Matchers.is(-1));
+    }
+
+    @Test
+    public void sameClassesAsRhino() throws Exception {
+        for (String file : Arrays.asList("test-library.js", "test-helper.js", "es6.js")) {
+            URL resource = JavascriptParserTest.class.getResource("/javascript/" + file);
+            List<String> lines = Files.readAllLines(Paths.get(resource.toURI()));
+
+            assertThat(file, classes(JavascriptParser.parse(PATH, lines)),
+                    Matchers.is(classes(JavascriptParser.convert(PATH, lines))));
+        }
+    }
+
+    private static Set<String> classes(List<Block> blocks) {
+        Set<String> classes = new TreeSet<>();
+
+        for (Block block : blocks) {
+            Matcher matcher = SLDS.matcher(block.getValue());
+            while (matcher.find()) {
+                classes.add(matcher.group());
+            }
+        }
+
+        return classes;
+    }
+}
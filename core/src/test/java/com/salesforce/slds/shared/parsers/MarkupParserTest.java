@@ -226,6 +226,51 @@ class MarkupParserTest {
             assertThat(elements.size(), Matchers.is(1));
         }
 
+        @Test
+        void attributeWithTagName() {
+            List<String> html = Lists.newArrayList(
+                    "<template>",
+                    "  <span title=\"span\"",
+                    "        class=\"slds-text\">text</span>",
+                    "</template>");
+            List<HTMLElement> elements = MarkupParser.parse("test.cmp", html);
+            assertThat(elements.size(), Matchers.is(2));
+
+            HTMLElement span = elements.get(1);
+            assertThat(span.getRange(), Matchers.is(new Range(new Location(1, 2), new Location(2, 37))));
+            assertThat(span.getRaw(), Matchers.contains(
+                    "<span title=\"span\"", "        class=\"slds-text\">text</span>"));
+        }
+
+        @Test
+        void largeComponent() {
+            List<String> html = Lists.newArrayList("<aura:component>");
+            for (int i = 0; i < 1000; i++) {
+                html.add("  <div class=\"slds-grid\">");
+                html.add("    <lightning:button label=\"" + i + "\"/>");
+                html.add("  </div>");
+            }
+            html.add("</aura:component>");
+
+            List<HTMLElement> elements = MarkupParser.parse("test.cmp", html);
+
+            assertThat(elements.size(), Matchers.is(2001));
+            assertThat(elements.get(0).getRaw(), Matchers.hasSize(html.size()));
+
+            for (int i = 0; i < 1000; i++) {
+                HTMLElement div = elements.get(1 + i * 2);
+                HTMLElement button = elements.get(2 + i * 2);
+                int line = 1 + i * 3;
+
+                assertThat(div.getContent().tagName(), Matchers.is("div"));
+                assertThat(div.getRange(), Matchers.is(new Range(new Location(line, 2), new Location(line + 2, 8))));
+                assertThat(div.getClasses().keySet(), Matchers.contains("slds-grid"));
+
+                assertThat(button.getContent().attr("label"), Matchers.is(String.valueOf(i)));
+                assertThat(button.getRange().getStart(), Matchers.is(new Location(line + 1, 4)));
+            }
+        }
+
         @Test
         void issue8() {
             List<String> html = Lists.newArrayList(
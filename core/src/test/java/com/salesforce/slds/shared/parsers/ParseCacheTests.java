@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.shared.parsers;
+
+import com.salesforce.slds.shared.models.core.RuleSet;
+import com.salesforce.slds.shared.parsers.css.CSSParser;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ParseCacheTests {
+
+    private static final String PATH = "file:///component/component.css";
+
+    @Test
+    public void contentAddressed() {
+        ParseCache cache = new ParseCache();
+        AtomicInteger parses = new AtomicInteger();
+
+        List<String> lines = Arrays.asList(".THIS .a {", "    color: red;", "}");
+
+        List<RuleSet> first = parse(cache, PATH, lines, parses);
+        List<RuleSet> second = parse(cache, PATH, new ArrayList<>(lines), parses);
+
+        assertThat(second, Matchers.sameInstance(first));
+        assertThat(parses.get(), Matchers.is(1));
+
+        parse(cache, "file:///other/other.css", lines, parses);
+        parse(cache, PATH, Arrays.asList(".THIS .a {", "    color: blue;", "}"), parses);
+        parse(cache, PATH, Arrays.asList(".THIS .a {", "    color: red;}", ""), parses);
+
+        assertThat(parses.get(), Matchers.is(4));
+        assertThat(cache.getStats().hitCount(), Matchers.is(1L));
+        assertThat(cache.getStats().missCount(), Matchers.is(4L));
+    }
+
+    @Test
+    public void boundedByWeight() {
+        ParseCache cache = new ParseCache(100);
+        AtomicInteger parses = new AtomicInteger();
+
+        for (int i = 0; i < 20; i++) {
+            parse(cache, PATH + i, Arrays.asList(".THIS .a" + i + " {", "    color: red;", "}"), parses);
+        }
+
+        assertThat(cache.size(), Matchers.lessThan(20L));
+    }
+
+    @Test
+    public void weighsParsedNodes() {
+        List<String> lines = Arrays.asList(".THIS .a, .THIS .b {", "    color: red;", "    margin: 0;", "}");
+        List<RuleSet> ruleSets = CSSParser.parse(lines);
+
+        // the rule, its two selectors and its two declarations
+        assertThat(ParseCache.weigh(lines, ruleSets), Matchers.greaterThanOrEqualTo(5 * ParseCache.NODE_BYTES));
+        assertThat(ParseCache.weigh(lines, ruleSets), Matchers.greaterThan(ParseCache.weigh(lines, new ArrayList<>())));
+    }
+
+    private static List<RuleSet> parse(ParseCache cache, String path, List<String> lines, AtomicInteger parses) {
+        return cache.get(ParseCache.Kind.CSS, path, lines, () -> {
+            parses.incrementAndGet();
+            return CSSParser.parse(lines);
+        });
+    }
+}
@@ -8,6 +8,9 @@
 package com.salesforce.slds.shared.utils;
 
 import com.salesforce.slds.shared.configuration.SharedConfiguration;
+import com.salesforce.slds.shared.converters.Converter;
+import com.salesforce.slds.shared.converters.StateCache;
+import com.salesforce.slds.shared.converters.TypeConverters;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +22,7 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
+import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -69,4 +73,35 @@ public class ValueUtilitiesTests {
         List<String> values = valueUtilities.possibleValues("16px -25% #005FB2");
         assertThat(values, Matchers.containsInAnyOrder(allPossibleProperties.toArray()));
     }
+
+    @Test
+    public void testContains() {
+        String value = "16px -25% #005FB2";
+        PossibleValues possibleValues = valueUtilities.getPossibleValues(value, valueUtilities.getState(value));
+
+        assertThat(possibleValues.size(), Matchers.is(100L));
+        possibleValues.forEach(possibleValue ->
+                assertThat(possibleValues.contains(possibleValue), Matchers.is(true)));
+
+        assertThat(possibleValues.contains("1rem -0.25em rgb(0, 95, 178)"), Matchers.is(true));
+        assertThat(possibleValues.contains("1rem -0.25em rgb(0, 95, 178) "), Matchers.is(false));
+        assertThat(possibleValues.contains("1rem 0.25em rgb(0, 95, 178)"), Matchers.is(false));
+        assertThat(possibleValues.contains(value), Matchers.is(true));
+        assertThat(possibleValues.isTruncated(), Matchers.is(false));
+    }
+
+    @Test
+    public void testLimit() {
+        ValueUtilities limited = new ValueUtilities(Collections.singletonList(new TypeConverters()), new StateCache(), 10);
+        String value = "0 1px 2px rgba(0, 0, 0, 0.16), 0 0 3px #fff, 1px 2px 3px 4px #005FB2";
+        Converter.State state = limited.getState(value);
+
+        PossibleValues possibleValues = limited.getPossibleValues(value, state);
+        assertThat(possibleValues.size(), Matchers.greaterThan(100000L));
+        assertThat(possibleValues.isTruncated(), Matchers.is(true));
+        assertThat(limited.generatePossibleValues(value, state), Matchers.hasSize(10));
+
+        assertThat(possibleValues.contains("0 0.062rem 0.125rem rgba(0, 0, 0, 0.16), 0 0 0.188em #fff, " +
+                "1px 2px 3px 4px #005fb2"), Matchers.is(true));
+    }
 }
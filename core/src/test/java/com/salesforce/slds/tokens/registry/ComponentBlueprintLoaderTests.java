@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.tokens.registry;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salesforce.slds.tokens.models.ComponentBlueprint;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ComponentBlueprintLoaderTests {
+
+    private static final String COMPONENTS = "/tokens/slds/components.json";
+
+    @Test
+    public void prunedBlueprintsKeepValidatorFields() throws Exception {
+        Set<ComponentBlueprint> full = loadFull();
+        ComponentBlueprintLoader loader = load();
+
+        assertThat(ids(loader.getComponents()), Matchers.equalTo(ids(full)));
+        assertThat(loader.getValidUtilityClasses(),
+                Matchers.equalTo(BaseTokenRegistry.collectValidUtilityClasses(full, Collections.emptyList())));
+        assertThat(BaseTokenRegistry.collectValidUtilityClasses(loader.getComponents(), Collections.emptyList()),
+                Matchers.equalTo(loader.getValidUtilityClasses()));
+
+        ComponentBlueprint blueprint = loader.getComponents().iterator().next();
+        assertThat(blueprint.getDescription(), Matchers.nullValue());
+        assertThat(blueprint.getRestrictees(), Matchers.nullValue());
+    }
+
+    @Test
+    public void heapFootprint() throws Exception {
+        long full = HeapFootprint.estimate(loadFull());
+        long pruned = HeapFootprint.estimate(load().getComponents());
+
+        assertThat(pruned, Matchers.lessThan(full));
+    }
+
+    private static Set<String> ids(Set<ComponentBlueprint> blueprints) {
+        return blueprints.stream().map(ComponentBlueprint::getId).collect(Collectors.toSet());
+    }
+
+    private static Set<ComponentBlueprint> loadFull() throws Exception {
+        try (InputStream stream = ComponentBlueprintLoaderTests.class.getResourceAsStream(COMPONENTS)) {
+            return new ObjectMapper().readValue(stream, new TypeReference<Set<ComponentBlueprint>>(){});
+        }
+    }
+
+    private static ComponentBlueprintLoader load() throws Exception {
+        try (InputStream stream = ComponentBlueprintLoaderTests.class.getResourceAsStream(COMPONENTS)) {
+            return new ComponentBlueprintLoader().load(stream);
+        }
+    }
+
+    /**
+     * Rough retained-size estimate for a 64-bit JVM with compressed oops. JDK strings and
+     * collections are sized from their contents instead of being reflected into.
+     */
+    static class HeapFootprint {
+        private static final int HEADER = 12;
+        private static final int REFERENCE = 4;
+
+        private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        static long estimate(Object root) {
+            return new HeapFootprint().size(root);
+        }
+
+        private long size(Object object) {
+            if (object == null || visited.add(object) == false) {
+                return 0;
+            }
+
+            if (object instanceof String) {
+                return align(HEADER + 12) + align(16 + ((String) object).length());
+            }
+
+            if (object instanceof Map) {
+                long size = align(HEADER + 36) + align(16 + REFERENCE * 2L * ((Map<?, ?>) object).size());
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                    size += align(HEADER + 16) + size(entry.getKey()) + size(entry.getValue());
+                }
+                return size;
+            }
+
+            if (object instanceof Collection) {
+                long size = align(HEADER + 16) + align(16 + REFERENCE * (long) ((Collection<?>) object).size());
+                for (Object element : (Collection<?>) object) {
+                    size += size(element);
+                }
+                return size;
+            }
+
+            Class<?> type = object.getClass();
+
+            if (type.isArray()) {
+                int length = Array.getLength(object);
+                if (type.getComponentType().isPrimitive()) {
+                    return align(16 + (long) length * 8);
+                }
+
+                long size = align(16 + (long) length * REFERENCE);
+                for (int i = 0; i < length; i++) {
+                    size += size(Array.get(object, i));
+                }
+                return size;
+            }
+
+            if (type.getName().startsWith("java.")) {
+                return align(HEADER + REFERENCE);
+            }
+
+            long size = HEADER;
+            List<Object> children = new ArrayList<>();
+
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+
+                    size += field.getType() == long.class || field.getType() == double.class ? 8 : REFERENCE;
+
+                    if (field.getType().isPrimitive() == false) {
+                        try {
+                            field.setAccessible(true);
+                            children.add(field.get(object));
+                        } catch (IllegalAccessException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                }
+            }
+
+            size = align(size);
+            for (Object child : children) {
+                size += size(child);
+            }
+
+            return size;
+        }
+
+        private static long align(long size) {
+            return (size + 7) & ~7L;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.tokens.registry;
+
+import com.salesforce.slds.tokens.models.DesignToken;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PropertyPatternsTests {
+
+    @Test
+    public void glob() {
+        assertThat(PropertyPatterns.matches("*width", "max-width"), Matchers.is(true));
+        assertThat(PropertyPatterns.matches("*width", "width"), Matchers.is(true));
+        assertThat(PropertyPatterns.matches("width*", "max-width"), Matchers.is(false));
+        assertThat(PropertyPatterns.matches("border*radius", "border-top-left-radius"), Matchers.is(true));
+        assertThat(PropertyPatterns.matches("border*radius", "border-radius-top"), Matchers.is(false));
+        assertThat(PropertyPatterns.matches("*flex*", "flex"), Matchers.is(true));
+        assertThat(PropertyPatterns.matches("*a*a", "aaba"), Matchers.is(true));
+        assertThat(PropertyPatterns.matches("*", ""), Matchers.is(true));
+        assertThat(PropertyPatterns.matches("font", "font-size"), Matchers.is(false));
+    }
+
+    @Test
+    public void sameAsRegularExpressions() throws Exception {
+        TokenRegistryImpl registry = new TokenRegistryImpl();
+        registry.afterPropertiesSet();
+
+        Set<String> patterns = new LinkedHashSet<>();
+        for (DesignToken token : registry.getDesignTokens()) {
+            patterns.addAll(token.getCssProperties());
+        }
+        patterns.addAll(Arrays.asList("*", "b*r*r", "*-*-*"));
+
+        PropertyPatterns<String> index = new PropertyPatterns<>();
+        patterns.forEach(pattern -> index.add(pattern, pattern));
+
+        Set<String> properties = new TreeSet<>();
+        for (String pattern : patterns) {
+            properties.add(pattern.replace("*", ""));
+            properties.add(pattern.replace("*", "-x-"));
+        }
+        properties.addAll(Arrays.asList("", "border-top-left-radius", "min-height", "flex-grow",
+                "background-image", "transition-duration", "line-height", "color-scheme"));
+
+        for (String property : properties) {
+            List<String> expected = new ArrayList<>();
+            for (String pattern : patterns) {
+                if (Pattern.matches(pattern.replaceAll("\\*", "(?:\\.*)?"), property)) {
+                    expected.add(pattern);
+                }
+            }
+
+            assertThat(property, index.get(property), Matchers.is(expected));
+            assertThat(property, index.matches(property), Matchers.is(expected.isEmpty() == false));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.tokens.registry;
+
+import com.salesforce.slds.tokens.models.ComponentBlueprint;
+import com.salesforce.slds.tokens.models.DesignToken;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class RegistrySnapshotTests {
+
+    @Test
+    public void snapshotMatchesJson() throws Exception {
+        TokenRegistryImpl json = jsonRegistry();
+        RegistrySnapshot compiled = compile(json);
+        SnapshotTokenRegistry snapshot = new SnapshotTokenRegistry(compiled);
+
+        assertThat(snapshot.getDesignTokensInternal(), Matchers.equalTo(json.getDesignTokensInternal()));
+        assertThat(snapshot.getUtilityClasses(), Matchers.equalTo(json.getUtilityClasses()));
+        assertThat(snapshot.getComponentBlueprints(), Matchers.equalTo(json.getComponentBlueprints()));
+        assertThat(snapshot.getValidUtilityClasses(), Matchers.equalTo(json.getValidUtilityClasses()));
+        assertThat(snapshot.getDesignTokenCategories(), Matchers.equalTo(json.getDesignTokenCategories()));
+
+        for (Map.Entry<String, DesignToken> entry : json.getDesignTokensInternal().entrySet()) {
+            DesignToken expected = entry.getValue();
+            DesignToken actual = new SnapshotTokenRegistry(compiled).getDesignToken(entry.getKey()).get();
+
+            assertThat(actual, Matchers.equalTo(expected));
+            assertThat(actual.getCategory(), Matchers.equalTo(expected.getCategory()));
+            assertThat(actual.getScope(), Matchers.equalTo(expected.getScope()));
+            assertThat(actual.getCssProperties(), Matchers.equalTo(expected.getCssProperties()));
+            assertThat(actual.getTokenType(), Matchers.equalTo(expected.getTokenType()));
+            assertThat(actual.getTokenPriority(), Matchers.equalTo(expected.getTokenPriority()));
+        }
+    }
+
+    @Test
+    public void lazyLookups() throws Exception {
+        TokenRegistryImpl json = jsonRegistry();
+        SnapshotTokenRegistry snapshot = new SnapshotTokenRegistry(compile(json));
+
+        for (ComponentBlueprint blueprint : json.getComponentBlueprints()) {
+            Optional<ComponentBlueprint> actual = snapshot.getComponentBlueprint(blueprint.getId());
+            assertThat(actual.isPresent(), Matchers.is(true));
+            assertThat(actual.get().getTokens(), Matchers.equalTo(blueprint.getTokens()));
+        }
+
+        assertThat(snapshot.getDesignToken("unknownToken").isPresent(), Matchers.is(false));
+        assertThat(snapshot.getComponentBlueprint("unknown").isPresent(), Matchers.is(false));
+    }
+
+    private static TokenRegistryImpl jsonRegistry() throws Exception {
+        TokenRegistryImpl registry = new TokenRegistryImpl();
+        registry.afterPropertiesSet();
+        return registry;
+    }
+
+    private static RegistrySnapshot compile(BaseTokenRegistry registry) throws Exception {
+        return new RegistrySnapshot(ByteBuffer.wrap(write(registry)));
+    }
+
+    private static byte[] write(BaseTokenRegistry registry) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new RegistrySnapshotWriter().write(registry, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.tokens.registry;
+
+import com.salesforce.slds.tokens.models.DesignToken;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TokenIndexTests {
+
+    private List<DesignToken> tokens;
+    private TokenIndex index;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        TokenRegistryImpl registry = new TokenRegistryImpl();
+        registry.afterPropertiesSet();
+
+        tokens = registry.getDesignTokens();
+        index = TokenIndex.of(tokens);
+    }
+
+    @Test
+    public void property() {
+        Set<String> properties = tokens.stream()
+                .map(DesignToken::getCssProperties)
+                .flatMap(List::stream)
+                .filter(property -> property.contains("*") == false)
+                .collect(Collectors.toSet());
+
+        properties.addAll(Arrays.asList("border-top-left-radius", "max-width", "flex-basis", "unknown"));
+
+        for (String property : properties) {
+            Set<DesignToken> expected = tokens.stream()
+                    .filter(token -> token.getCssProperties().stream().anyMatch(pattern -> matches(pattern, property)))
+                    .collect(Collectors.toSet());
+
+            assertThat(property, new HashSet<>(index.getDesignTokensFromProperty(property)), Matchers.equalTo(expected));
+        }
+    }
+
+    @Test
+    public void category() {
+        for (String category : index.getCategories()) {
+            List<DesignToken> expected = tokens.stream()
+                    .filter(token -> token.getCategory().contentEquals(category))
+                    .collect(Collectors.toList());
+
+            assertThat(index.getDesignTokensFromCategory(category), Matchers.equalTo(expected));
+        }
+
+        assertThat(index.getDesignTokensFromCategory("unknown"), Matchers.empty());
+    }
+
+    @Test
+    public void value() {
+        DesignToken token = tokens.stream().filter(t -> t.getValue().startsWith("#")).findFirst().get();
+
+        assertThat(index.getDesignTokensFromValue(" " + token.getValue().toUpperCase() + " "), Matchers.hasItem(token));
+        assertThat(index.getDesignTokensFromValue("not-a-value"), Matchers.empty());
+    }
+
+    @Test
+    public void valueByProperty() {
+        for (String property : Arrays.asList("color", "border-top-left-radius", "unknown")) {
+            Map<String, List<DesignToken>> byValue = index.getDesignTokensByValue(property);
+
+            Map<String, Set<DesignToken>> expected = index.getDesignTokensFromProperty(property).stream()
+                    .collect(Collectors.groupingBy(DesignToken::getValue, Collectors.toSet()));
+
+            assertThat(byValue.keySet(), Matchers.equalTo(expected.keySet()));
+            byValue.forEach((value, tokens) -> assertThat(new HashSet<>(tokens), Matchers.equalTo(expected.get(value))));
+        }
+    }
+
+    @Test
+    public void unknownPropertiesShareEmptyResults() {
+        assertThat(index.getDesignTokensFromProperty("--custom-1"), Matchers.empty());
+        assertThat(index.getDesignTokensByValue("--custom-1"), Matchers.anEmptyMap());
+        assertThat(index.getDesignTokensByValueForm("--custom-1").isEmpty(), Matchers.is(true));
+
+        assertThat(index.getDesignTokensByValue("--custom-2"),
+                Matchers.sameInstance(index.getDesignTokensByValue("colr")));
+        assertThat(index.getDesignTokensByValueForm("--custom-2"),
+                Matchers.sameInstance(index.getDesignTokensByValueForm("colr")));
+
+        assertThat(index.getDesignTokensFromProperty("border-top-left-radius"),
+                Matchers.sameInstance(index.getDesignTokensFromProperty("border-top-left-radius")));
+        assertThat(index.getDesignTokensByValueForm("color").isEmpty(), Matchers.is(false));
+        assertThat(index.getDesignTokensByValueForm("color"),
+                Matchers.sameInstance(index.getDesignTokensByValueForm("color")));
+    }
+
+    private static boolean matches(String pattern, String property) {
+        return Pattern.compile("^" + pattern.replaceAll("\\*", "(?:\\.*)?") + "$").matcher(property).find();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.tokens.registry;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TokenRegistryWarmUpTests {
+
+    @Test
+    public void concurrentLookupsShareOneLoad() throws Exception {
+        TokenRegistryImpl registry = new TokenRegistryImpl();
+        registry.afterPropertiesSet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<Set<String>>> results = IntStream.range(0, 8)
+                    .mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        return registry.getValidUtilityClasses();
+                    }))
+                    .collect(Collectors.toList());
+
+            start.countDown();
+
+            Set<String> first = results.get(0).get(30, TimeUnit.SECONDS);
+            assertThat(first, Matchers.not(Matchers.empty()));
+
+            for (Future<Set<String>> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS), Matchers.sameInstance(first));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void readiness() throws Exception {
+        TokenRegistryImpl registry = new TokenRegistryImpl();
+        registry.afterPropertiesSet();
+
+        CompletableFuture<TokenRegistry> ready = registry.warmUp();
+
+        assertThat(ready.get(30, TimeUnit.SECONDS), Matchers.sameInstance(registry));
+        assertThat(registry.isReady(), Matchers.is(true));
+        assertThat(registry.getDesignToken("colorBorder").isPresent(), Matchers.is(true));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.validation.runners;
+
+import com.salesforce.slds.configuration.SldsConfiguration;
+import com.salesforce.slds.shared.models.context.Context;
+import com.salesforce.slds.shared.models.core.Bundle;
+import com.salesforce.slds.shared.models.core.Entry;
+import com.salesforce.slds.shared.models.recommendation.Recommendation;
+import com.salesforce.slds.validation.aggregators.Aggregator;
+import com.salesforce.slds.validation.processors.Processor;
+import com.salesforce.slds.validation.validators.interfaces.RecommendationValidator;
+import com.salesforce.slds.validation.validators.interfaces.Validator;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = SldsConfiguration.class)
+public class ValidateRunnerTests {
+
+    private static final String[] DECLARATIONS = {
+            "margin: 0", "padding: 1rem", "color: #fff", "text-align: center",
+            "font-size: 12px", "display: none", "background: t(brandBackgroundDark)"
+    };
+
+    @Autowired
+    List<Validator> validators;
+
+    @Autowired
+    Aggregator aggregator;
+
+    @Autowired
+    Processor processor;
+
+    @Test
+    public void sameAsValidatingEachEntryAtOnce() {
+        Bundle bundle = bundle(ValidateRunner.CHUNK_SIZE * 4);
+
+        ValidateRunner runner = new ValidateRunner(validators, aggregator, processor);
+        runner.setExecutor(new ValidationExecutor(4, false));
+        runner.setBundle(bundle);
+        runner.run();
+
+        Context context = runner.getContext();
+        int recommendations = 0;
+
+        for (Entry entry : bundle.getEntries()) {
+            List<Recommendation> expected = processor.process(entry, validators.stream()
+                    .filter(validator -> validator instanceof RecommendationValidator)
+                    .map(validator -> ((RecommendationValidator) validator).matches(entry, bundle, context))
+                    .flatMap(List::stream)
+                    .collect(aggregator.toList()));
+
+            assertThat(entry.getPath(), entry.getRecommendation(), Matchers.is(expected));
+            recommendations += expected.size();
+        }
+
+        assertThat(recommendations, Matchers.greaterThanOrEqualTo(ValidateRunner.CHUNK_SIZE * 4));
+    }
+
+    @Test
+    public void timing() {
+        Bundle bundle = bundle(ValidateRunner.CHUNK_SIZE * 16);
+
+        ValidateRunner runner = new ValidateRunner(validators, aggregator, processor);
+        runner.setBundle(bundle);
+        runner.run();
+
+        ValidationTiming timing = runner.getTiming();
+
+        assertThat(timing.getEntries(), Matchers.is(2));
+        // parsing each entry, and validating the stylesheet in chunks
+        assertThat(timing.getTasks(), Matchers.greaterThan(2 + 16));
+        assertThat(timing.getWallTime(TimeUnit.NANOSECONDS), Matchers.greaterThan(0L));
+        assertThat(timing.getCpuTime(TimeUnit.NANOSECONDS), Matchers.not(0L));
+    }
+
+    @Test
+    public void virtualThreads() throws Exception {
+        boolean available = Arrays.stream(Executors.class.getMethods())
+                .anyMatch(method -> method.getName().equals("newVirtualThreadPerTaskExecutor"));
+
+        ValidationExecutor executor = new ValidationExecutor(2, true);
+        assertThat(executor.isVirtual(), Matchers.is(available));
+
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            tasks.add(() -> value * 2);
+        }
+
+        assertThat(executor.invokeAll(tasks), Matchers.is(tasks.stream().map(task -> {
+            try {
+                return task.call();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }).collect(Collectors.toList())));
+
+        executor.destroy();
+    }
+
+    private Bundle bundle(int ruleSets) {
+        List<String> css = new ArrayList<>();
+        List<String> classes = new ArrayList<>();
+
+        for (int i = 0; i < ruleSets; i++) {
+            classes.add("item" + i);
+            css.add(".item" + i + " {");
+            css.add("    " + DECLARATIONS[i % DECLARATIONS.length] + ";");
+            css.add("    " + DECLARATIONS[(i * 3 + 1) % DECLARATIONS.length] + ";");
+            css.add("}");
+        }
+
+        List<String> html = Arrays.asList("<template>",
+                "    <div class=\"" + String.join(" ", classes) + "\"></div>",
+                "</template>");
+
+        return new Bundle(
+                Entry.builder().path("test.css").entityType(Entry.EntityType.LWC).rawContent(css).build(),
+                Entry.builder().path("test.html").entityType(Entry.EntityType.LWC).rawContent(html).build());
+    }
+}
@@ -438,24 +438,25 @@ public class CSSValidationTest {
         List<Recommendation> recommendations = groupedRecommendation.get("13px");
         assertThat(recommendations, Matchers.iterableWithSize(1));
 
+        // 13px is 0.8125rem, so the fontSize3 tokens are recommended as well
         Set<Action> actions = extractActions(recommendations);
-        assertThat(actions, Matchers.iterableWithSize(1));
-        Action action = actions.iterator().next();
+        assertThat(actions, Matchers.iterableWithSize(3));
+        Action action = actions.stream()
+                .filter(a -> a.getDescription().contentEquals(MobileSLDS_CSSValidator.USE_FONT_SIZE_14PX_OR_LARGER))
+                .findFirst().get();
         assertThat(action.getRange(),
                 Matchers.is(new Range(new Location(0, 23), new Location(0, 25))));
-        assertThat(action.getDescription(),
-                Matchers.equalTo(MobileSLDS_CSSValidator.USE_FONT_SIZE_14PX_OR_LARGER));
 
         recommendations = groupedRecommendation.get("italic small-caps bold 13px Georgia, serif");
         assertThat(recommendations, Matchers.iterableWithSize(1));
 
         actions = extractActions(recommendations);
-        assertThat(actions, Matchers.iterableWithSize(1));
-        action = actions.iterator().next();
+        assertThat(actions, Matchers.iterableWithSize(3));
+        action = actions.stream()
+                .filter(a -> a.getDescription().contentEquals(MobileSLDS_CSSValidator.USE_FONT_SIZE_14PX_OR_LARGER))
+                .findFirst().get();
         assertThat(action.getRange(),
                 Matchers.is(new Range(new Location(1, 41), new Location(1, 43))));
-        assertThat(action.getDescription(),
-                Matchers.equalTo(MobileSLDS_CSSValidator.USE_FONT_SIZE_14PX_OR_LARGER));
 
         recommendations = groupedRecommendation.get("14px");
         assertThat(recommendations, Matchers.iterableWithSize(1));
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.validation.validators.impl.recommendation;
+
+import com.google.common.collect.Lists;
+import com.salesforce.slds.shared.models.context.Context;
+import com.salesforce.slds.shared.models.core.Bundle;
+import com.salesforce.slds.shared.models.core.Entry;
+import com.salesforce.slds.shared.models.core.HTMLElement;
+import com.salesforce.slds.shared.models.core.Input;
+import com.salesforce.slds.shared.models.recommendation.Recommendation;
+import com.salesforce.slds.shared.parsers.markup.MarkupParser;
+import com.salesforce.slds.validation.validators.interfaces.MarkupRule;
+import com.salesforce.slds.validation.validators.models.MarkupScope;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MarkupValidatorTests {
+
+    @Test
+    void singleWalkWithAncestors() {
+        List<String> html = Lists.newArrayList(
+                "<template>",
+                "  <a href=\"#\"><img src=\"a.png\"/></a>",
+                "  <label><input/></label>",
+                "  <template for:each={items} for:item=\"item\"><span></span></template>",
+                "  <input id=\"name\"/>",
+                "  <label for=\"name\">Name</label>",
+                "</template>");
+
+        Entry entry = Entry.builder().path("test.html").rawContent(html).build();
+        entry.setEntityType(Entry.EntityType.LWC);
+        entry.setInputs(new ArrayList<Input>(MarkupParser.parse("test.html", html)));
+
+        List<String> visits = new ArrayList<>();
+
+        MarkupValidator validator = new MarkupValidator();
+        validator.rules = Collections.singletonList(new MarkupRule() {
+            @Override
+            public boolean isEnabled(Entry entry, Context context) {
+                return true;
+            }
+
+            @Override
+            public void visit(HTMLElement element, MarkupScope scope) {
+                String tag = element.getContent().tagName();
+                visits.add(tag + (scope.isInsideAnchor() ? " a" : "") +
+                        (scope.isInsideLabel() ? " label" : "") + (scope.isInsideIteration() ? " each" : ""));
+
+                if (tag.equals("input") && scope.isInsideLabel() == false) {
+                    String id = element.getContent().id();
+                    scope.addLater(() -> scope.getLabelTargets().contains(id) ?
+                            Recommendation.builder().input(element).build() : null);
+                }
+            }
+        });
+
+        List<Recommendation> recommendations = validator.matches(entry, new Bundle(entry), new Context());
+
+        assertThat(visits, Matchers.contains("template", "a", "img a", "label", "input label",
+                "template", "span each", "input", "label"));
+        assertThat(recommendations, Matchers.hasSize(1));
+        assertThat(recommendations.get(0).getInput().asElement().getContent().id(), Matchers.is("name"));
+    }
+}
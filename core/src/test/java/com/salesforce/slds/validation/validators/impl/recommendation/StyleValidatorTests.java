@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.validation.validators.impl.recommendation;
+
+import com.google.common.collect.Lists;
+import com.salesforce.slds.configuration.SldsConfiguration;
+import com.salesforce.slds.shared.converters.StateCache;
+import com.salesforce.slds.shared.converters.TypeConverters;
+import com.salesforce.slds.shared.models.context.Context;
+import com.salesforce.slds.shared.models.context.ContextKey;
+import com.salesforce.slds.shared.models.core.*;
+import com.salesforce.slds.shared.models.recommendation.Recommendation;
+import com.salesforce.slds.shared.parsers.css.CSSParser;
+import com.salesforce.slds.tokens.models.DesignToken;
+import com.salesforce.slds.tokens.registry.TokenIndex;
+import com.salesforce.slds.tokens.registry.TokenRegistry;
+import com.salesforce.slds.validation.utils.CSSValidationUtilities;
+import com.salesforce.slds.validation.validators.models.StyleScope;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = SldsConfiguration.class)
+public class StyleValidatorTests {
+
+    @Autowired
+    StyleValidator validator;
+
+    @Autowired
+    TokenRegistry registry;
+
+    @Autowired
+    CSSValidationUtilities utilities;
+
+    @Test
+    void sameAsOneValidatorPerCategory() {
+        List<String> css = Lists.newArrayList(
+                ".THIS .a { margin: 0 0 12px; padding: 1.5rem; color: #fff; }",
+                ".THIS .b { background: #16325c; background-color: rgb(255, 255, 255); }",
+                ".THIS .c { font-size: 0.75rem; font-weight: 700; line-height: 1.5; }",
+                ".THIS .d { border-radius: .25rem; border-color: #dddbda; z-index: 9000; }",
+                ".THIS .e { width: 2rem; height: 32px; box-shadow: 0 2px 2px 0 rgba(0, 0, 0, 0.1); }",
+                ".THIS .f { margin-top: 0.5rem; padding-left: 1rem; opacity: 0.5; }");
+
+        Entry entry = Entry.builder().path("test.css").rawContent(css).build();
+        entry.setEntityType(Entry.EntityType.AURA);
+        entry.setInputs(new ArrayList<Input>(CSSParser.parse(css)));
+
+        Context context = new Context();
+        for (ContextKey key : Arrays.asList(ContextKey.BEM, ContextKey.DENSITY, ContextKey.DEPRECATED,
+                ContextKey.INVALID, ContextKey.SLDS_MOBILE_VALIDATION)) {
+            context.setState(key.name(), false);
+        }
+
+        List<Recommendation> expected = new ArrayList<>();
+
+        for (String category : registry.getDesignTokenCategories()) {
+            List<DesignToken> tokens = registry.getDesignTokensFromCategory(category);
+            List<String> properties = new ArrayList<>();
+            tokens.forEach(token -> properties.addAll(token.getCssProperties()));
+            TokenIndex index = TokenIndex.of(tokens);
+
+            for (Input input : entry.getInputs()) {
+                for (Style style : input.asRuleSet().getStylesWithAnnotationType()) {
+                    if (utilities.filter(style, properties)) {
+                        Recommendation recommendation = utilities.match(style, index, entry.getEntityType(), css);
+                        if (recommendation != null) {
+                            expected.add(recommendation);
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Recommendation> actual = validator.matches(entry, new Bundle(entry), context);
+
+        assertThat(expected, Matchers.not(Matchers.empty()));
+        assertThat(describe(actual), Matchers.is(describe(expected)));
+    }
+
+    @Test
+    void convertsOncePerDeclaration() {
+        List<String> css = Lists.newArrayList(".THIS { margin: 0 0 12px; padding: 1rem; }");
+        List<Style> styles = CSSParser.parse(css).get(0).getStyles();
+
+        StateCache stateCache = new StateCache();
+        TypeConverters converters = new TypeConverters();
+        StyleScope scope = new StyleScope(Entry.builder().path("test.css").rawContent(css).build(),
+                new Context(), stateCache);
+
+        scope.enter(styles.get(0));
+        assertThat(scope.getState(converters), Matchers.sameInstance(scope.getState(converters)));
+        assertThat(scope.getState(converters).getInput(), Matchers.is("0 0 12px"));
+
+        scope.enter(styles.get(1));
+        assertThat(scope.getState(converters).getInput(), Matchers.is("1rem"));
+        scope.getState(converters);
+
+        assertThat(stateCache.getMissCount(), Matchers.is(2L));
+        assertThat(stateCache.getHitCount(), Matchers.is(0L));
+    }
+
+    private static List<String> describe(List<Recommendation> recommendations) {
+        List<String> descriptions = new ArrayList<>();
+
+        for (Recommendation recommendation : recommendations) {
+            Set<String> items = new TreeSet<>();
+            recommendation.getItems().forEach(item -> items.add(item.getValue() + " " + item.getActions()));
+
+            descriptions.add(recommendation.getStyle().getProperty() + ": " +
+                    recommendation.getStyle().getValue() + " " + items);
+        }
+
+        Collections.sort(descriptions);
+
+        return descriptions;
+    }
+}
@@ -7,12 +7,16 @@
 
 package com.salesforce.slds.validation.validators.impl.recommendation;
 
+import com.salesforce.slds.shared.models.core.Bundle;
+import com.salesforce.slds.shared.models.core.Entry;
 import com.salesforce.slds.shared.models.core.HTMLElement;
 import com.salesforce.slds.shared.models.locations.Location;
 import com.salesforce.slds.shared.models.locations.Range;
 import com.salesforce.slds.shared.models.recommendation.RelatedInformation;
 import com.salesforce.slds.shared.parsers.markup.MarkupParser;
 import com.salesforce.slds.tokens.models.UtilityClass;
+import com.salesforce.slds.validation.validators.utils.ElementIndex;
+import com.salesforce.slds.validation.validators.utils.HTMLElementUtilities;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -119,4 +123,30 @@ public class UtilityClassValidatorTests {
             assertThat(information.getValue(), Matchers.is("testing"));
         }
     }
+
+    @Nested
+    class IndexElements {
+
+        @Test
+        void sharedByTheChunksOfABundle() {
+            validator.utilities = new HTMLElementUtilities();
+
+            Entry markup = Entry.builder().path("test.html").entityType(Entry.EntityType.LWC)
+                    .rawContent(Arrays.asList("<template>", "<div class=\"item\"></div>", "</template>")).build();
+            markup.setInputs(new ArrayList<>(MarkupParser.parse(markup.getPath(), markup.getRawContent())));
+
+            Bundle bundle = new Bundle(markup);
+            ElementIndex index = validator.index(bundle);
+
+            assertThat(validator.index(bundle), Matchers.sameInstance(index));
+            assertThat(validator.index(new Bundle(markup)), Matchers.not(Matchers.sameInstance(index)));
+
+            markup.setInputs(new ArrayList<>(MarkupParser.parse(markup.getPath(), markup.getRawContent())));
+            ElementIndex reparsed = validator.index(bundle);
+
+            assertThat(reparsed, Matchers.not(Matchers.sameInstance(index)));
+            assertThat(reparsed.getRoots().get(0), Matchers.sameInstance(markup.getInputs().get(0)));
+            assertThat(validator.index(bundle), Matchers.sameInstance(reparsed));
+        }
+    }
 }
@@ -7,11 +7,17 @@ import com.salesforce.slds.shared.parsers.markup.MarkupParser;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Selector;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -120,4 +126,96 @@ public class HTMLElementUtilitiesTests {
             assertThat(results, Matchers.iterableWithSize(0));
         }
     }
+
+    @Nested
+    @DisplayName("Indexed Query Selectors")
+    class IndexedSelector {
+
+        @Test
+        void sameAsQueryingEachRoot() {
+            List<HTMLElement> elements = MarkupParser.parse("test.cmp", component(20));
+            Entry entry = entry();
+            ElementIndex index = utilities.index(elements);
+
+            for (String selector : selectors(20)) {
+                assertThat(selector, utilities.select(entry, selector, index),
+                        Matchers.is(query(entry, selector, elements)));
+            }
+        }
+
+        private List<String> selectors(int rows) {
+            List<String> selectors = new ArrayList<>();
+
+            for (int i = 0; i < rows; i++) {
+                selectors.add(".THIS .row-" + i);
+                selectors.add(".THIS .slds-grid > .col-" + (i % 7));
+                selectors.add(".THIS DIV.slds-grid span#label-" + i);
+                selectors.add(".THIS li:first-child .col-" + (i % 7));
+            }
+
+            selectors.add(".THIS");
+            selectors.add(".THIS [title]");
+            selectors.add(".THIS .missing");
+            selectors.add(".THIS .slds-GRID");
+            selectors.add(".THIS div, .THIS span");
+            selectors.add(".THIS div >");
+
+            return selectors;
+        }
+
+        private Entry entry() {
+            Entry entry = Mockito.mock(Entry.class);
+            Mockito.when(entry.getComponentName()).thenReturn("test");
+            Mockito.when(entry.getEntityType()).thenReturn(Entry.EntityType.AURA);
+            return entry;
+        }
+
+        private List<String> component(int rows) {
+            List<String> html = new ArrayList<>();
+            html.add("<aura:component>");
+            html.add("<ul>");
+
+            for (int i = 0; i < rows; i++) {
+                html.add("  <li class=\"row-" + i + "\"><div class=\"slds-grid\" title=\"row\">");
+                html.add("    <div class=\"col-" + (i % 7) + "\"><span id=\"label-" + i + "\">" + i + "</span></div>");
+                html.add("  </div></li>");
+            }
+
+            html.add("</ul>");
+            html.add("</aura:component>");
+            return html;
+        }
+
+        /**
+         * Selects by querying the markup of each root, as selecting did before the index.
+         */
+        private List<HTMLElement> query(Entry entry, String selector, List<HTMLElement> elements) {
+            String query = utilities.cleanseComponentName(utilities.cleanse(selector), entry.getComponentName());
+            Map<Element, HTMLElement> mapping = elements.stream()
+                    .collect(Collectors.toMap(HTMLElement::getContent, element -> element));
+
+            return elements.stream()
+                    .filter(element ->
+                            element.getContent().parent().outerHtml().contentEquals(element.getContent().outerHtml()))
+                    .map(element -> {
+                        if (query.isEmpty()) {
+                            return element.getContent().children().stream()
+                                    .filter(child -> child.tagName().startsWith("aura:") == false)
+                                    .map(mapping::get)
+                                    .filter(Objects::nonNull).collect(Collectors.toList());
+                        }
+
+                        try {
+                            return element.getContent().select(query).stream()
+                                    .map(mapping::get).filter(Objects::nonNull)
+                                    .filter(item -> utilities.filterDynamicElement(entry.getEntityType(), item, query))
+                                    .collect(Collectors.toList());
+                        } catch (Selector.SelectorParseException ex) {
+                            return new ArrayList<HTMLElement>();
+                        }
+                    })
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+        }
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2018, salesforce.com, inc.
+ * All rights reserved.
+ * SPDX-License-Identifier: BSD-3-Clause
+ * For full license text, see the LICENSE file in the repo root or https://opensource.org/licenses/BSD-3-Clause
+ */
+
+package com.salesforce.slds.validation.validators.utils;
+
+import com.salesforce.slds.configuration.SldsConfiguration;
+import com.salesforce.slds.shared.models.core.RuleSet;
+import com.salesforce.slds.shared.models.core.Style;
+import com.salesforce.slds.shared.parsers.css.CSSParser;
+import com.salesforce.slds.shared.utils.TokenUtilities;
+import com.salesforce.slds.tokens.models.UtilityClass;
+import com.salesforce.slds.tokens.registry.TokenRegistry;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(classes = SldsConfiguration.class)
+public class UtilityClassIndexTests {
+
+    @Autowired
+    TokenRegistry tokenRegistry;
+
+    @Autowired
+    TokenUtilities tokenUtilities;
+
+    private List<UtilityClass> classes;
+
+    @BeforeEach
+    public void setup() {
+        classes = tokenRegistry.getUtilityClasses().stream()
+                .filter(utilityClass -> utilityClass.getSettings() != null)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void sameAsMatchingEveryClass() {
+        List<RuleSet> ruleSets = CSSParser.parse(stylesheet(200));
+        UtilityClassIndex index = new UtilityClassIndex(classes, tokenUtilities);
+
+        int matched = 0;
+
+        for (RuleSet ruleSet : ruleSets) {
+            List<Style> styles = ruleSet.getStylesWithAnnotationType();
+            Map<UtilityClass, List<Style>> expected = matchEveryClass(styles);
+
+            assertThat(ruleSet.toString(), index.match(styles), Matchers.is(expected));
+            matched += expected.isEmpty() ? 0 : 1;
+        }
+
+        assertThat(matched, Matchers.greaterThan(ruleSets.size() / 3));
+    }
+
+    @Test
+    public void sameWhenMatchedAgain() {
+        List<RuleSet> ruleSets = CSSParser.parse(stylesheet(200));
+        UtilityClassIndex index = new UtilityClassIndex(classes, tokenUtilities);
+
+        List<Map<UtilityClass, List<Style>>> first = ruleSets.stream()
+                .map(ruleSet -> index.match(ruleSet.getStylesWithAnnotationType()))
+                .collect(Collectors.toList());
+
+        for (int i = 0; i < ruleSets.size(); i++) {
+            RuleSet ruleSet = ruleSets.get(i);
+            assertThat(ruleSet.toString(), index.match(ruleSet.getStylesWithAnnotationType()), Matchers.is(first.get(i)));
+        }
+    }
+
+    /**
+     * Rules declaring the settings of utility classes, some with an unrelated declaration or
+     * a value spelled differently, and some matching no class at all.
+     */
+    private List<String> stylesheet(int rules) {
+        List<String> lines = new ArrayList<>();
+
+        for (int i = 0; i < rules; i++) {
+            UtilityClass utilityClass = classes.get((i * 7) % classes.size());
+            lines.add(".THIS .rule" + i + " {");
+
+            for (UtilityClass.Setting setting : utilityClass.getSettings()) {
+                String value = setting.getValue();
+
+                if (i % 5 == 1) {
+                    value = value.replace("0.", ".");
+                } else if (i % 5 == 2) {
+                    value = value.toUpperCase();
+                } else if (i % 5 == 3) {
+                    value = value + " 1px";
+                }
+
+                lines.add("    " + setting.getProperty() + ": " + value + ";");
+            }
+
+            if (i % 3 == 0) {
+                lines.add("    cursor: pointer;");
+            }
+
+            lines.add("}");
+        }
+
+        return lines;
+    }
+
+    /**
+     * How utility classes were matched before they were indexed: every setting of every class
+     * against every style, generating the value patterns each time.
+     */
+    private Map<UtilityClass, List<Style>> matchEveryClass(List<Style> ruleStyles) {
+        Map<UtilityClass, List<Style>> results = new LinkedHashMap<>();
+
+        for (UtilityClass utilityClass : classes) {
+            List<UtilityClass.Setting> utilitySettings = utilityClass.getSettings();
+
+            List<Style> styles = ruleStyles.stream()
+                    .filter(style -> utilitySettings.stream().anyMatch(setting ->
+                            style.getProperty().contentEquals(setting.getProperty()) &&
+                                    tokenUtilities.generatePatterns(setting.getValue())
+                                            .stream().anyMatch(pattern -> style.getValue().matches(pattern))))
+                    .collect(Collectors.toList());
+
+            if (styles.isEmpty() == false && utilitySettings.size() == styles.size()) {
+                results.put(utilityClass, styles);
+            }
+        }
+
+        return results;
+    }
+}
@@ -8,6 +8,7 @@ import com.salesforce.slds.lsp.services.interfaces.StateService;
 import com.salesforce.slds.shared.models.core.Bundle;
 import com.salesforce.slds.shared.models.core.Entry;
 import com.salesforce.slds.shared.utils.EntryUtilities;
+import com.salesforce.slds.tokens.registry.TokenRegistry;
 import org.eclipse.lsp4j.*;
 import org.eclipse.lsp4j.jsonrpc.services.JsonDelegate;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
@@ -36,8 +37,13 @@ public class Server implements LanguageServer, LanguageClientAware {
     @Autowired
     TextDocumentRegistry documentRegistry;
 
+    @Autowired
+    TokenRegistry tokenRegistry;
+
     @Override
     public CompletableFuture<InitializeResult> initialize(InitializeParams params) {
+        tokenRegistry.warmUp();
+
         ServerCapabilities capabilities = new ServerCapabilities();
         capabilities.setTextDocumentSync(TextDocumentSyncKind.Full);
         capabilities.setCodeActionProvider(new CodeActionOptions(Lists.newArrayList(CodeActionKind.Refactor,
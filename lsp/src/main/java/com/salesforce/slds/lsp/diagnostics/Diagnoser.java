@@ -17,6 +17,7 @@ import com.salesforce.slds.shared.models.core.Entry;
 import com.salesforce.slds.validation.aggregators.SimpleAggregator;
 import com.salesforce.slds.validation.processors.SortAndFilterProcessor;
 import com.salesforce.slds.validation.runners.ValidateRunner;
+import com.salesforce.slds.validation.runners.ValidationExecutor;
 import com.salesforce.slds.validation.validators.interfaces.Validator;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -39,6 +40,9 @@ public class Diagnoser {
     @Lazy
     List<Validator> validators;
 
+    @Autowired(required = false)
+    ValidationExecutor executor;
+
     @Autowired
     DiagnosticConverter converter;
 
@@ -60,6 +64,10 @@ public class Diagnoser {
 
             runner.setContext(stateService.getContext());
 
+            if (executor != null) {
+                runner.setExecutor(executor);
+            }
+
             Bundle bundle = getBundle(item);
             runner.setBundle(bundle);
 
@@ -85,6 +93,10 @@ public class Diagnoser {
         }
     }
 
+    public void close(String uri) {
+        ValidateRunner.forget(uri);
+    }
+
     public Entry createEntry(TextDocumentItem item) {
         //item.getText() uses "\n" as LineSeparator regardless as OS
         return createEntry(item.getUri(),
@@ -102,7 +114,8 @@ public class Diagnoser {
 
         for (File f : originalFile.getParentFile().listFiles(Diagnoser::isLightningComponentFiles)) {
             if (f.isFile()) {
-                TextDocumentItem item = documentRegistry.get(f.toURI().toString());
+                // the version being diagnosed, even if a newer one was registered since
+                TextDocumentItem item = f.equals(originalFile) ? entry : documentRegistry.get(f.toURI().toString());
                 if (item != null) {
                     bundle.getEntries().add(createEntry(item));
                 } else {
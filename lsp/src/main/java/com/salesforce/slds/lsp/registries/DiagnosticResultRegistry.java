@@ -11,9 +11,9 @@ import java.io.File;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import com.salesforce.slds.lsp.models.DiagnosticResult;
@@ -24,7 +24,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class DiagnosticResultRegistry {
 
-    private final Map<String, List<DiagnosticResult>> results = new HashMap<>();
+    // written by diagnoses of different documents and read by code actions, all at once
+    private final Map<String, List<DiagnosticResult>> results = new ConcurrentHashMap<>();
 
     public List<DiagnosticResult> remove(String uri) {
         return results.remove(translate(uri));
@@ -35,20 +36,20 @@ public class DiagnosticResultRegistry {
     }
 
     List<Diagnostic> getDiagnostics(String uri) {
-        String key = translate(uri);
+        List<DiagnosticResult> diagnostics = results.get(translate(uri));
 
-        if (results.containsKey(key)) {
-            return results.get(key).stream()
+        if (diagnostics != null) {
+            return diagnostics.stream()
                     .map(DiagnosticResult::getDiagnostic).collect(Collectors.toList());
         }
         return new ArrayList<>();
     }
 
     List<DiagnosticResult> getDiagnosticResults(String uri) {
-        String key = translate(uri);
+        List<DiagnosticResult> diagnostics = results.get(translate(uri));
 
-        if (results.containsKey(key)) {
-            return results.get(key);
+        if (diagnostics != null) {
+            return diagnostics;
         }
         return new ArrayList<>();
     }
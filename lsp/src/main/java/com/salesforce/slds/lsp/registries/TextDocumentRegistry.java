@@ -8,8 +8,9 @@
 package com.salesforce.slds.lsp.registries;
 
 import java.io.File;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.salesforce.slds.lsp.models.DiagnosticResult;
 
@@ -21,7 +22,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class TextDocumentRegistry {
  
-    private final HashMap<String, TextDocumentItem> documents = new HashMap<>();
+    // read by diagnoses running off the client thread
+    private final Map<String, TextDocumentItem> documents = new ConcurrentHashMap<>();
 
     @Autowired
     DiagnosticResultRegistry diagnosticRegistry;
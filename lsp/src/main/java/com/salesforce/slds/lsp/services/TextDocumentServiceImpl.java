@@ -1,6 +1,7 @@
 package com.salesforce.slds.lsp.services;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.salesforce.slds.lsp.codeactions.CodeActionConverter;
 import com.salesforce.slds.lsp.diagnostics.Diagnoser;
 import com.salesforce.slds.lsp.registries.TextDocumentRegistry;
@@ -16,7 +17,8 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.Map;
+import java.util.concurrent.*;
 
 
 @Component
@@ -34,6 +36,14 @@ public class TextDocumentServiceImpl implements TextDocumentService {
     @Autowired
     TextDocumentRegistry registry;
 
+    // diagnoses of different documents run in parallel, those of one document in order
+    private final ExecutorService diagnostics = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), new DiagnosticThreadFactory());
+    private final Map<String, Queue> queues = new ConcurrentHashMap<>();
+
+    // the last version of each document sent to be diagnosed; older ones still queued are dropped
+    private final Map<String, TextDocumentItem> latest = new ConcurrentHashMap<>();
+
     private LanguageClient client;
 
     @Override
@@ -60,9 +70,7 @@ public class TextDocumentServiceImpl implements TextDocumentService {
         if (stateService.isEnabled(ContextKey.GLOBAL)) {
             diagnose(params.getTextDocument());
         } else {
-            client.publishDiagnostics(
-                    new PublishDiagnosticsParams(params.getTextDocument().getUri(),
-                            new ArrayList<>()));
+            clear(params.getTextDocument().getUri());
         }
     }
 
@@ -75,16 +83,21 @@ public class TextDocumentServiceImpl implements TextDocumentService {
             return;
         }
 
-        if (stateService.isEnabled(ContextKey.GLOBAL)) {
-            for (TextDocumentContentChangeEvent changeEvent : params.getContentChanges()) {
-                // Will be full update because we specified that is all we support
-                item.setText(changeEvent.getText());
-            }
+        String text = item.getText();
+        for (TextDocumentContentChangeEvent changeEvent : params.getContentChanges()) {
+            // Will be full update because we specified that is all we support
+            text = changeEvent.getText();
+        }
+
+        // registered items are never changed, so a diagnosis keeps reading the version it was given
+        TextDocumentItem snapshot = new TextDocumentItem(item.getUri(), item.getLanguageId(),
+                params.getTextDocument().getVersion(), text);
+        registry.register(snapshot);
 
-            diagnose(item);
+        if (stateService.isEnabled(ContextKey.GLOBAL)) {
+            diagnose(snapshot);
         } else {
-            client.publishDiagnostics(
-                    new PublishDiagnosticsParams(item.getUri(), new ArrayList<>()));
+            clear(uri);
         }
     }
 
@@ -92,6 +105,11 @@ public class TextDocumentServiceImpl implements TextDocumentService {
     public void didClose(DidCloseTextDocumentParams params) {
         String uri = params.getTextDocument().getUri();
         registry.remove(uri);
+
+        latest.remove(uri);
+
+        // after any diagnosis still running, which would keep the document otherwise
+        execute(uri, () -> diagnoser.close(uri));
     }
 
     @Override
@@ -138,11 +156,79 @@ public class TextDocumentServiceImpl implements TextDocumentService {
         this.client = languageClient;
     }
 
+    /**
+     * Diagnoses the document after any diagnosis of it already running, on a thread of its own
+     * so a diagnosis waiting for the token registry to warm up does not hold up the client.
+     * Only the latest version is diagnosed and published.
+     */
     private void diagnose(TextDocumentItem item) {
-        diagnoser.diagnose(item);
+        String uri = item.getUri();
+        latest.put(uri, item);
+
+        execute(uri, () -> {
+            if (latest.get(uri) != item) {
+                return;
+            }
 
-        client.publishDiagnostics(
-            new PublishDiagnosticsParams(item.getUri(), 
-            registry.getDiagnostics(item.getUri())));
+            try {
+                diagnoser.diagnose(item);
+
+                if (latest.get(uri) == item) {
+                    client.publishDiagnostics(
+                        new PublishDiagnosticsParams(uri, registry.getDiagnostics(uri)));
+                }
+            } catch (Exception ex) {
+                ex.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Drops pending diagnoses of the document and publishes no diagnostics for it once the one
+     * running, if any, is done.
+     */
+    private void clear(String uri) {
+        latest.remove(uri);
+
+        execute(uri, () -> client.publishDiagnostics(new PublishDiagnosticsParams(uri, new ArrayList<>())));
+    }
+
+    /**
+     * Runs the task after those already queued for the document. The queue is dropped once it
+     * has nothing left to run, so documents closed since keep none.
+     */
+    private void execute(String uri, Runnable task) {
+        Queue queue = queues.compute(uri, (key, current) -> {
+            Queue result = current != null ? current : new Queue(MoreExecutors.newSequentialExecutor(diagnostics));
+            result.pending++;
+            return result;
+        });
+
+        queue.executor.execute(() -> {
+            try {
+                task.run();
+            } finally {
+                queues.computeIfPresent(uri, (key, current) -> --current.pending == 0 ? null : current);
+            }
+        });
+    }
+
+    // only read and written inside compute calls on the map of queues
+    private static class Queue {
+        private final Executor executor;
+        private int pending;
+
+        Queue(Executor executor) {
+            this.executor = executor;
+        }
+    }
+
+    private static class DiagnosticThreadFactory implements ThreadFactory {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "slds-diagnostics");
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 }
\ No newline at end of file
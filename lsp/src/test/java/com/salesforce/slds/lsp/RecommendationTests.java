@@ -318,15 +318,36 @@ public class RecommendationTests {
 
             List<DiagnosticResult> diagnosticResults = getDiagnosticResult(entry);
 
-            assertThat(diagnosticResults.size(), Matchers.equalTo(2));
+            // 13px is 0.8125rem, so each declaration gets a token diagnostic next to the mobile one
+            assertThat(diagnosticResults.stream()
+                    .map(diagnosticResult -> diagnosticResult.getDiagnostic().getRange().getStart().getLine() + " " +
+                            diagnosticResult.getDiagnostic().getSeverity())
+                    .collect(Collectors.toList()), Matchers.contains(
+                            "2 Information", "2 Warning", "1 Information", "1 Warning"));
+
             diagnosticResults.forEach(diagnosticResult -> {
+                String message = diagnosticResult.getDiagnostic().getMessage();
+
+                if (diagnosticResult.getDiagnostic().getSeverity() == DiagnosticSeverity.Warning) {
+                    assertThat(message, Matchers.is(MobileSLDS_CSSValidator.USE_FONT_SIZE_14PX_OR_LARGER));
+                } else {
+                    assertThat(message, Matchers.stringContainsInOrder(
+                            "\"fontSize3\": Constant typography token for font size 3",
+                            "\"varFontSize3\": Variable typography token for font size 3"));
+                }
+
                 List<Item> items = diagnosticResult.getItems();
                 assertThat(items, Matchers.hasSize(1));
+                assertThat(items.get(0).getValue(), Matchers.is("13px"));
+
                 Set<Action> actions = items.get(0).getActions();
-                assertThat(actions, Matchers.hasSize(1));
-                Action action = actions.iterator().next();
-                String description = action.getDescription();
-                assertThat(description, Matchers.equalTo(MobileSLDS_CSSValidator.USE_FONT_SIZE_14PX_OR_LARGER));
+                assertThat(actions.stream().map(Action::getName).collect(Collectors.toList()),
+                        Matchers.containsInAnyOrder("Mobile SLDS CSS", "fontSize3", "varFontSize3"));
+                assertThat(actions.stream().map(Action::getValue).collect(Collectors.toList()),
+                        Matchers.containsInAnyOrder("13px", "var(--lwc-fontSize3, 0.8125rem)",
+                                "var(--lwc-varFontSize3, 0.8125rem)"));
+                assertThat(actions.stream().map(Action::getDescription).collect(Collectors.toList()),
+                        Matchers.hasItem(MobileSLDS_CSSValidator.USE_FONT_SIZE_14PX_OR_LARGER));
             });
         }
 